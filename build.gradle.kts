@@ -1,6 +1,8 @@
 plugins {
     id("java-library")
+    id("java-test-fixtures")
     id("maven-publish")
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.moocrest"
@@ -16,8 +18,15 @@ dependencies {
     implementation("com.fasterxml.jackson.core:jackson-annotations:2.16.1")
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310:2.16.1")
 
+    compileOnly("io.micrometer:micrometer-core:1.12.2")
+
     testImplementation("org.junit.jupiter:junit-jupiter:5.10.1")
     testImplementation("org.mockito:mockito-core:5.8.0")
+    testImplementation("io.micrometer:micrometer-core:1.12.2")
+
+    testFixturesImplementation("com.fasterxml.jackson.core:jackson-databind:2.16.1")
+
+    jmhImplementation(testFixtures(project))
 }
 
 java {
@@ -40,6 +49,12 @@ tasks.test {
     useJUnitPlatform()
 }
 
+jmh {
+    jmhVersion.set("1.37")
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+}
+
 publishing {
     publications {
         create<MavenPublication>("maven") {
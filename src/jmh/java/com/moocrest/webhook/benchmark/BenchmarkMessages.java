@@ -0,0 +1,58 @@
+package com.moocrest.webhook.benchmark;
+
+import com.moocrest.webhook.builder.WebhookBuilder;
+import com.moocrest.webhook.builder.WebhookEmbedBuilder;
+import com.moocrest.webhook.model.WebhookEmbed;
+import com.moocrest.webhook.model.WebhookMessage;
+
+import java.time.Instant;
+
+final class BenchmarkMessages {
+
+    static final Instant TIMESTAMP = Instant.parse("2024-01-01T12:00:00Z");
+
+    private BenchmarkMessages() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    static WebhookMessage typical() {
+        return WebhookMessage.builder()
+                .username("Server Monitor")
+                .addEmbed(WebhookEmbed.builder()
+                        .title("Server Status Report")
+                        .description("Current server statistics")
+                        .color(0x00FF00)
+                        .timestamp(TIMESTAMP)
+                        .author("Minecraft Server", "https://minecraft.net", "https://minecraft.net/favicon.ico")
+                        .thumbnail("https://example.com/server-icon.png")
+                        .addField("Players Online", "15/50", true)
+                        .addField("Uptime", "2 days, 5 hours", true)
+                        .addField("TPS", "19.8", true)
+                        .addField("Memory Usage", "4.2GB / 8GB", false)
+                        .footer("Last updated", "https://example.com/footer-icon.png")
+                        .build())
+                .build();
+    }
+
+    static WebhookMessage maximal() {
+        WebhookBuilder builder = WebhookMessage.builder()
+                .content("x".repeat(2000))
+                .username("Server Monitor")
+                .avatarUrl("https://example.com/avatar.png")
+                .threadName("server-status");
+        for (int embed = 0; embed < 10; embed++) {
+            WebhookEmbedBuilder embedBuilder = WebhookEmbed.builder()
+                    .title("Embed " + embed)
+                    .description("d".repeat(100))
+                    .color(0xFF0000)
+                    .timestamp(TIMESTAMP)
+                    .footer("Footer " + embed, "https://example.com/footer.png")
+                    .image("https://example.com/image.png");
+            for (int field = 0; field < 25; field++) {
+                embedBuilder.addField("Field " + field, "v".repeat(10), field % 2 == 0);
+            }
+            builder.addEmbed(embedBuilder.build());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.moocrest.webhook.benchmark;
+
+import com.moocrest.webhook.model.WebhookEmbed;
+import com.moocrest.webhook.model.WebhookMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BuilderBenchmark {
+
+    private WebhookMessage typical;
+
+    @Setup
+    public void setUp() {
+        typical = BenchmarkMessages.typical();
+    }
+
+    @Benchmark
+    public WebhookEmbed buildEmbed() {
+        return WebhookEmbed.builder()
+                .title("Server Status Report")
+                .description("Current server statistics")
+                .color(0x00FF00)
+                .timestamp(BenchmarkMessages.TIMESTAMP)
+                .addField("Players Online", "15/50", true)
+                .addField("Uptime", "2 days, 5 hours", true)
+                .footer("Last updated", "https://example.com/footer-icon.png")
+                .build();
+    }
+
+    @Benchmark
+    public WebhookMessage buildTypicalMessage() {
+        return BenchmarkMessages.typical();
+    }
+
+    @Benchmark
+    public WebhookMessage buildMaximalMessage() {
+        return BenchmarkMessages.maximal();
+    }
+
+    @Benchmark
+    public WebhookMessage toBuilderRoundTrip() {
+        return typical.toBuilder().content("Updated").build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.moocrest.webhook.benchmark;
+
+import com.moocrest.webhook.model.WebhookMessage;
+import com.moocrest.webhook.sender.DeliveryQueuePolicy;
+import com.moocrest.webhook.sender.ExecutionMode;
+import com.moocrest.webhook.sender.OverflowPolicy;
+import com.moocrest.webhook.sender.RateLimitPolicy;
+import com.moocrest.webhook.sender.RetryPolicy;
+import com.moocrest.webhook.sender.WebhookClient;
+import com.moocrest.webhook.testing.StubDiscordServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ExecutionModeBenchmark {
+
+    private static final int WEBHOOKS = 64;
+
+    @Param({"1000", "10000", "100000"})
+    public int concurrentSends;
+
+    @Param({"ASYNC", "VIRTUAL_THREADS"})
+    public ExecutionMode executionMode;
+
+    private StubDiscordServer server;
+    private WebhookClient client;
+    private String[] webhookUrls;
+    private WebhookMessage message;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        server = StubDiscordServer.start();
+        client = WebhookClient.builder()
+                .executionMode(executionMode)
+                .baseUri(server.baseUri())
+                .requestTimeout(Duration.ofMinutes(2))
+                .retryPolicy(RetryPolicy.noRetries())
+                .rateLimitPolicy(new RateLimitPolicy(Integer.MAX_VALUE, Duration.ofSeconds(1)))
+                .deliveryQueue(new DeliveryQueuePolicy(concurrentSends, concurrentSends, OverflowPolicy.BLOCK))
+                .build();
+        webhookUrls = new String[WEBHOOKS];
+        for (int i = 0; i < WEBHOOKS; i++) {
+            webhookUrls[i] = server.webhookUrl(i + 1);
+        }
+        message = WebhookMessage.builder()
+                .content("Player joined the server")
+                .username("Benchmark")
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        server.close();
+    }
+
+    @Benchmark
+    public void concurrentSends() {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[concurrentSends];
+        for (int i = 0; i < concurrentSends; i++) {
+            futures[i] = client.sendWebhook(webhookUrls[i % WEBHOOKS], message);
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+}
@@ -0,0 +1,118 @@
+package com.moocrest.webhook.benchmark;
+
+import com.moocrest.webhook.builder.EmbedPartInterner;
+import com.moocrest.webhook.builder.WebhookBuilder;
+import com.moocrest.webhook.builder.WebhookEmbedBuilder;
+import com.moocrest.webhook.model.WebhookEmbed;
+import com.moocrest.webhook.model.WebhookMessage;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class HeapFootprintBenchmark {
+
+    private static final int MESSAGES = 100_000;
+
+    @Param({"plain", "interned", "reused"})
+    public String strategy;
+
+    private WebhookMessage[] queued;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long retainedBytesPerMessage;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            retainedBytesPerMessage = 0;
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        queued = null;
+    }
+
+    @Benchmark
+    public WebhookMessage[] queue100kMessages(Footprint footprint) {
+        long before = usedHeap();
+        queued = switch (strategy) {
+            case "interned" -> buildInterned();
+            case "reused" -> buildReused();
+            default -> buildPlain();
+        };
+        footprint.retainedBytesPerMessage = (usedHeap() - before) / MESSAGES;
+        return queued;
+    }
+
+    private static WebhookMessage[] buildPlain() {
+        WebhookMessage[] messages = new WebhookMessage[MESSAGES];
+        for (int i = 0; i < MESSAGES; i++) {
+            messages[i] = message(WebhookMessage.builder(), WebhookEmbed.builder(), i);
+        }
+        return messages;
+    }
+
+    private static WebhookMessage[] buildInterned() {
+        EmbedPartInterner interner = new EmbedPartInterner();
+        WebhookMessage[] messages = new WebhookMessage[MESSAGES];
+        for (int i = 0; i < MESSAGES; i++) {
+            messages[i] = message(WebhookMessage.builder(), WebhookEmbed.builder().interner(interner), i);
+        }
+        return messages;
+    }
+
+    private static WebhookMessage[] buildReused() {
+        EmbedPartInterner interner = new EmbedPartInterner();
+        WebhookBuilder builder = WebhookMessage.builder();
+        WebhookEmbedBuilder embedBuilder = WebhookEmbed.builder().interner(interner);
+        WebhookMessage[] messages = new WebhookMessage[MESSAGES];
+        for (int i = 0; i < MESSAGES; i++) {
+            messages[i] = message(builder.reset(), embedBuilder.reset(), i);
+        }
+        return messages;
+    }
+
+    private static WebhookMessage message(WebhookBuilder builder, WebhookEmbedBuilder embedBuilder, int i) {
+        return builder
+                .username("Server Monitor")
+                .addEmbed(embedBuilder
+                        .title("Player joined")
+                        .description("Player" + i + " joined the server")
+                        .color(0x00FF00)
+                        .timestamp(BenchmarkMessages.TIMESTAMP)
+                        .author("Minecraft Server", "https://minecraft.net", "https://minecraft.net/favicon.ico")
+                        .thumbnail("https://example.com/server-icon.png")
+                        .addField("Players Online", Integer.toString(i % 50), true)
+                        .footer("Survival #1", "https://example.com/footer-icon.png")
+                        .build())
+                .build();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
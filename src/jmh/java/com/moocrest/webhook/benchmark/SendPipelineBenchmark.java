@@ -0,0 +1,62 @@
+package com.moocrest.webhook.benchmark;
+
+import com.moocrest.webhook.model.WebhookMessage;
+import com.moocrest.webhook.sender.RateLimitPolicy;
+import com.moocrest.webhook.sender.RetryPolicy;
+import com.moocrest.webhook.sender.WebhookClient;
+import com.moocrest.webhook.testing.StubDiscordServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class SendPipelineBenchmark {
+
+    private StubDiscordServer server;
+    private WebhookClient client;
+    private String webhookUrl;
+    private WebhookMessage message;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        server = StubDiscordServer.start();
+        client = WebhookClient.builder()
+                .baseUri(server.baseUri())
+                .retryPolicy(RetryPolicy.noRetries())
+                .rateLimitPolicy(new RateLimitPolicy(Integer.MAX_VALUE, Duration.ofSeconds(1)))
+                .build();
+        webhookUrl = server.webhookUrl(1);
+        message = BenchmarkMessages.typical();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        server.close();
+    }
+
+    @Benchmark
+    public boolean sendWebhook() {
+        return client.sendWebhook(webhookUrl, message).join();
+    }
+}
@@ -0,0 +1,78 @@
+package com.moocrest.webhook.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.moocrest.webhook.model.WebhookMessage;
+import com.moocrest.webhook.sender.WebhookSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"typical", "maximal"})
+    public String size;
+
+    private ObjectWriter writer;
+    private WebhookSerializer jackson;
+    private WebhookSerializer streaming;
+    private ByteArrayOutputStream output;
+    private WebhookMessage message;
+
+    @Setup
+    public void setUp() {
+        writer = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writerFor(WebhookMessage.class);
+        jackson = WebhookSerializer.jackson();
+        streaming = WebhookSerializer.streaming();
+        output = new ByteArrayOutputStream(32 * 1024);
+        message = "maximal".equals(size) ? BenchmarkMessages.maximal() : BenchmarkMessages.typical();
+    }
+
+    @Benchmark
+    public byte[] serializeToBytes() throws JsonProcessingException {
+        return writer.writeValueAsBytes(message);
+    }
+
+    @Benchmark
+    public String serializeToString() throws JsonProcessingException {
+        return writer.writeValueAsString(message);
+    }
+
+    @Benchmark
+    public int jacksonSerializer() throws IOException {
+        output.reset();
+        jackson.write(message, output);
+        return output.size();
+    }
+
+    @Benchmark
+    public int streamingSerializer() throws IOException {
+        output.reset();
+        streaming.write(message, output);
+        return output.size();
+    }
+}
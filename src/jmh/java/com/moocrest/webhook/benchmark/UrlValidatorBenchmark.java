@@ -0,0 +1,49 @@
+package com.moocrest.webhook.benchmark;
+
+import com.moocrest.webhook.util.WebhookEndpoint;
+import com.moocrest.webhook.util.WebhookUrlValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UrlValidatorBenchmark {
+
+    public String validUrl = "https://discord.com/api/webhooks/123456789012345678/abcdefghijklmnopqrstuvwxyz-ABC_123";
+    public String queryUrl =
+            "https://discord.com/api/webhooks/123456789012345678/abcdefghijklmnop?wait=true&thread_id=42";
+    public String invalidUrl = "https://example.com/api/webhooks/123/abc";
+
+    @Benchmark
+    public boolean validUrl() {
+        return WebhookUrlValidator.isValid(validUrl);
+    }
+
+    @Benchmark
+    public boolean urlWithQuery() {
+        return WebhookUrlValidator.isValid(queryUrl);
+    }
+
+    @Benchmark
+    public boolean invalidUrl() {
+        return WebhookUrlValidator.isValid(invalidUrl);
+    }
+
+    @Benchmark
+    public WebhookEndpoint parseEndpoint() {
+        return WebhookEndpoint.parse(queryUrl);
+    }
+}
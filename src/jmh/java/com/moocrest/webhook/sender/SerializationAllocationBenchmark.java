@@ -0,0 +1,66 @@
+package com.moocrest.webhook.sender;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moocrest.webhook.model.WebhookEmbed;
+import com.moocrest.webhook.model.WebhookMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.http.HttpRequest;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx512m")
+public class SerializationAllocationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private JsonPayloadWriter payloadWriter;
+    private WebhookMessage message;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JacksonWebhookSerializer.defaultObjectMapper();
+        payloadWriter = new JsonPayloadWriter(WebhookSerializer.jackson(objectMapper), new PayloadPool(16));
+        message = WebhookMessage.builder()
+                .username("Server Monitor")
+                .addEmbed(WebhookEmbed.builder()
+                        .title("Server Status Report")
+                        .description("Current server statistics")
+                        .color(0x00FF00)
+                        .timestamp(Instant.parse("2024-01-01T12:00:00Z"))
+                        .addField("Players Online", "15/50", true)
+                        .addField("Uptime", "2 days, 5 hours", true)
+                        .addField("TPS", "19.8", true)
+                        .footer("Last updated", "https://example.com/footer-icon.png")
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public long stringBody() throws JsonProcessingException {
+        String json = objectMapper.writeValueAsString(message);
+        return HttpRequest.BodyPublishers.ofString(json).contentLength();
+    }
+
+    @Benchmark
+    public long pooledBody() {
+        PayloadBuffer payload = payloadWriter.write(message);
+        long length = payload.bodyPublisher().contentLength();
+        payload.release();
+        return length;
+    }
+}
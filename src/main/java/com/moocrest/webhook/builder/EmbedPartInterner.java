@@ -0,0 +1,65 @@
+package com.moocrest.webhook.builder;
+
+import com.moocrest.webhook.model.WebhookEmbed;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class EmbedPartInterner {
+
+    private static final int DEFAULT_CAPACITY = 4096;
+
+    private final Map<Record, Record> parts = new ConcurrentHashMap<>();
+    private final int capacity;
+
+    public EmbedPartInterner(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        this.capacity = capacity;
+    }
+
+    public EmbedPartInterner() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public WebhookEmbed.Footer footer(String text, String iconUrl) {
+        return intern(new WebhookEmbed.Footer(text, iconUrl));
+    }
+
+    public WebhookEmbed.Author author(String name, String url, String iconUrl) {
+        return intern(new WebhookEmbed.Author(name, url, iconUrl));
+    }
+
+    public WebhookEmbed.Image image(String url) {
+        return intern(new WebhookEmbed.Image(url));
+    }
+
+    public WebhookEmbed.Thumbnail thumbnail(String url) {
+        return intern(new WebhookEmbed.Thumbnail(url));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T extends Record> T intern(T part) {
+        if (part == null) {
+            return null;
+        }
+        Record existing = parts.get(part);
+        if (existing != null) {
+            return (T) existing;
+        }
+        if (parts.size() >= capacity) {
+            return part;
+        }
+        existing = parts.putIfAbsent(part, part);
+        return existing != null ? (T) existing : part;
+    }
+
+    public int size() {
+        return parts.size();
+    }
+
+    public void clear() {
+        parts.clear();
+    }
+}
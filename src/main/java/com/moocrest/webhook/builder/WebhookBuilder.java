@@ -1,21 +1,27 @@
 package com.moocrest.webhook.builder;
 
+import com.moocrest.webhook.model.WebhookAttachment;
 import com.moocrest.webhook.model.WebhookEmbed;
 import com.moocrest.webhook.model.WebhookMessage;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 public class WebhookBuilder {
     private String content;
     private String username;
     private String avatarUrl;
     private List<WebhookEmbed> embeds;
+    private boolean embedsShared;
     private String threadName;
     private Integer flags;
+    private List<WebhookAttachment> attachments;
 
     public WebhookBuilder() {
         this.embeds = new ArrayList<>();
+        this.attachments = new ArrayList<>();
     }
 
     public WebhookBuilder content(String content) {
@@ -35,13 +41,18 @@ public class WebhookBuilder {
 
     public WebhookBuilder addEmbed(WebhookEmbed embed) {
         if (embed != null) {
+            if (embedsShared) {
+                embeds = new ArrayList<>(embeds);
+                embedsShared = false;
+            }
             this.embeds.add(embed);
         }
         return this;
     }
 
     public WebhookBuilder embeds(List<WebhookEmbed> embeds) {
-        this.embeds = embeds != null ? new ArrayList<>(embeds) : new ArrayList<>();
+        this.embeds = embeds != null ? List.copyOf(withoutNulls(embeds)) : List.of();
+        this.embedsShared = true;
         return this;
     }
 
@@ -55,8 +66,49 @@ public class WebhookBuilder {
         return this;
     }
 
+    public WebhookBuilder addAttachment(Path path) {
+        return addAttachment(WebhookAttachment.of(path));
+    }
+
+    public WebhookBuilder addAttachment(WebhookAttachment attachment) {
+        if (attachment != null) {
+            int id = attachments.size();
+            this.attachments.add(attachment.id() == id ? attachment : attachment.withId(id));
+        }
+        return this;
+    }
+
+    public WebhookBuilder attachments(List<WebhookAttachment> attachments) {
+        this.attachments.clear();
+        if (attachments != null) {
+            attachments.forEach(this::addAttachment);
+        }
+        return this;
+    }
+
+    public WebhookBuilder reset() {
+        content = null;
+        username = null;
+        avatarUrl = null;
+        threadName = null;
+        flags = null;
+        if (embedsShared) {
+            embeds = new ArrayList<>();
+            embedsShared = false;
+        } else {
+            embeds.clear();
+        }
+        attachments.clear();
+        return this;
+    }
+
     public WebhookMessage build() {
-        List<WebhookEmbed> embedList = embeds.isEmpty() ? null : new ArrayList<>(embeds);
-        return new WebhookMessage(content, username, avatarUrl, embedList, threadName, flags);
+        List<WebhookEmbed> embedList = embeds.isEmpty() ? null : embeds;
+        List<WebhookAttachment> attachmentList = attachments.isEmpty() ? null : attachments;
+        return new WebhookMessage(content, username, avatarUrl, embedList, threadName, flags, attachmentList);
+    }
+
+    static <T> List<T> withoutNulls(List<T> list) {
+        return list.stream().anyMatch(Objects::isNull) ? list.stream().filter(Objects::nonNull).toList() : list;
     }
 }
\ No newline at end of file
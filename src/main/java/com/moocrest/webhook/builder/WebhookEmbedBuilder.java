@@ -17,11 +17,18 @@ public class WebhookEmbedBuilder {
     private WebhookEmbed.Thumbnail thumbnail;
     private WebhookEmbed.Author author;
     private List<WebhookEmbed.Field> fields;
+    private boolean fieldsShared;
+    private EmbedPartInterner interner;
 
     public WebhookEmbedBuilder() {
         this.fields = new ArrayList<>();
     }
 
+    public WebhookEmbedBuilder interner(EmbedPartInterner interner) {
+        this.interner = interner;
+        return this;
+    }
+
     public WebhookEmbedBuilder title(String title) {
         this.title = title;
         return this;
@@ -58,84 +65,109 @@ public class WebhookEmbedBuilder {
     }
 
     public WebhookEmbedBuilder footer(String text) {
-        this.footer = new WebhookEmbed.Footer(text, null);
-        return this;
+        return footer(text, null);
     }
 
     public WebhookEmbedBuilder footer(String text, String iconUrl) {
-        this.footer = new WebhookEmbed.Footer(text, iconUrl);
+        this.footer = interner != null ? interner.footer(text, iconUrl) : new WebhookEmbed.Footer(text, iconUrl);
         return this;
     }
 
     public WebhookEmbedBuilder footer(WebhookEmbed.Footer footer) {
-        this.footer = footer;
+        this.footer = interner != null ? interner.intern(footer) : footer;
         return this;
     }
 
     public WebhookEmbedBuilder image(String url) {
-        this.image = new WebhookEmbed.Image(url);
+        this.image = interner != null ? interner.image(url) : new WebhookEmbed.Image(url);
         return this;
     }
 
     public WebhookEmbedBuilder image(WebhookEmbed.Image image) {
-        this.image = image;
+        this.image = interner != null ? interner.intern(image) : image;
         return this;
     }
 
     public WebhookEmbedBuilder thumbnail(String url) {
-        this.thumbnail = new WebhookEmbed.Thumbnail(url);
+        this.thumbnail = interner != null ? interner.thumbnail(url) : new WebhookEmbed.Thumbnail(url);
         return this;
     }
 
     public WebhookEmbedBuilder thumbnail(WebhookEmbed.Thumbnail thumbnail) {
-        this.thumbnail = thumbnail;
+        this.thumbnail = interner != null ? interner.intern(thumbnail) : thumbnail;
         return this;
     }
 
     public WebhookEmbedBuilder author(String name) {
-        this.author = new WebhookEmbed.Author(name, null, null);
-        return this;
+        return author(name, null, null);
     }
 
     public WebhookEmbedBuilder author(String name, String url) {
-        this.author = new WebhookEmbed.Author(name, url, null);
-        return this;
+        return author(name, url, null);
     }
 
     public WebhookEmbedBuilder author(String name, String url, String iconUrl) {
-        this.author = new WebhookEmbed.Author(name, url, iconUrl);
+        this.author = interner != null
+                ? interner.author(name, url, iconUrl)
+                : new WebhookEmbed.Author(name, url, iconUrl);
         return this;
     }
 
     public WebhookEmbedBuilder author(WebhookEmbed.Author author) {
-        this.author = author;
+        this.author = interner != null ? interner.intern(author) : author;
         return this;
     }
 
     public WebhookEmbedBuilder addField(String name, String value) {
-        this.fields.add(new WebhookEmbed.Field(name, value, false));
-        return this;
+        return addField(new WebhookEmbed.Field(name, value, false));
     }
 
     public WebhookEmbedBuilder addField(String name, String value, boolean inline) {
-        this.fields.add(new WebhookEmbed.Field(name, value, inline));
-        return this;
+        return addField(new WebhookEmbed.Field(name, value, inline));
     }
 
     public WebhookEmbedBuilder addField(WebhookEmbed.Field field) {
         if (field != null) {
-            this.fields.add(field);
+            mutableFields().add(field);
         }
         return this;
     }
 
     public WebhookEmbedBuilder fields(List<WebhookEmbed.Field> fields) {
-        this.fields = fields != null ? new ArrayList<>(fields) : new ArrayList<>();
+        this.fields = fields != null ? List.copyOf(WebhookBuilder.withoutNulls(fields)) : List.of();
+        this.fieldsShared = true;
+        return this;
+    }
+
+    public WebhookEmbedBuilder reset() {
+        title = null;
+        description = null;
+        url = null;
+        color = null;
+        timestamp = null;
+        footer = null;
+        image = null;
+        thumbnail = null;
+        author = null;
+        if (fieldsShared) {
+            fields = new ArrayList<>();
+            fieldsShared = false;
+        } else {
+            fields.clear();
+        }
         return this;
     }
 
     public WebhookEmbed build() {
-        List<WebhookEmbed.Field> fieldList = fields.isEmpty() ? null : new ArrayList<>(fields);
+        List<WebhookEmbed.Field> fieldList = fields.isEmpty() ? null : fields;
         return new WebhookEmbed(title, description, url, color, timestamp, footer, image, thumbnail, author, fieldList);
     }
+
+    private List<WebhookEmbed.Field> mutableFields() {
+        if (fieldsShared) {
+            fields = new ArrayList<>(fields);
+            fieldsShared = false;
+        }
+        return fields;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.moocrest.webhook.metrics;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class EndpointMetrics {
+
+    private final String endpointId;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder rateLimitWaitNanos = new LongAdder();
+    private final StatusCounts statusCounts = new StatusCounts();
+
+    EndpointMetrics(String endpointId) {
+        this.endpointId = endpointId;
+    }
+
+    public String endpointId() {
+        return endpointId;
+    }
+
+    public long requests() {
+        return requests.sum();
+    }
+
+    public long failures() {
+        return failures.sum();
+    }
+
+    public long retries() {
+        return retries.sum();
+    }
+
+    public long rateLimitWaitNanos() {
+        return rateLimitWaitNanos.sum();
+    }
+
+    public long statusCount(int statusCode) {
+        return statusCounts.count(statusCode);
+    }
+
+    public Map<Integer, Long> statusCounts() {
+        return statusCounts.snapshot();
+    }
+
+    void requestStarted() {
+        requests.increment();
+    }
+
+    void responseReceived(int statusCode) {
+        statusCounts.record(statusCode);
+    }
+
+    void requestFailed() {
+        failures.increment();
+    }
+
+    void retried() {
+        retries.increment();
+    }
+
+    void rateLimitWaited(long nanos) {
+        rateLimitWaitNanos.add(nanos);
+    }
+}
@@ -0,0 +1,126 @@
+package com.moocrest.webhook.metrics;
+
+import com.moocrest.webhook.util.WebhookEndpoint;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class InMemoryWebhookMetrics implements WebhookMetrics {
+
+    private final Map<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+    private final StatusCounts statusCounts = new StatusCounts();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LatencyHistogram serializationTime = new LatencyHistogram();
+    private final LatencyHistogram rateLimitWait = new LatencyHistogram();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder inFlight = new LongAdder();
+    private final LongAdder connectionsOpened = new LongAdder();
+    private final LongAdder connectionsReused = new LongAdder();
+
+    @Override
+    public void serialized(long nanos) {
+        serializationTime.record(nanos);
+    }
+
+    @Override
+    public void rateLimitWaited(WebhookEndpoint endpoint, long nanos) {
+        rateLimitWait.record(nanos);
+        endpoint(endpoint).rateLimitWaited(nanos);
+    }
+
+    @Override
+    public void requestStarted(WebhookEndpoint endpoint) {
+        requests.increment();
+        inFlight.increment();
+        endpoint(endpoint).requestStarted();
+    }
+
+    @Override
+    public void responseReceived(WebhookEndpoint endpoint, int statusCode, long latencyNanos) {
+        inFlight.decrement();
+        latency.record(latencyNanos);
+        statusCounts.record(statusCode);
+        endpoint(endpoint).responseReceived(statusCode);
+    }
+
+    @Override
+    public void requestFailed(WebhookEndpoint endpoint, Throwable error, long latencyNanos) {
+        inFlight.decrement();
+        latency.record(latencyNanos);
+        failures.increment();
+        endpoint(endpoint).requestFailed();
+    }
+
+    @Override
+    public void retried(WebhookEndpoint endpoint, int attempt) {
+        retries.increment();
+        endpoint(endpoint).retried();
+    }
+
+    @Override
+    public void connectionOpened(WebhookEndpoint endpoint) {
+        connectionsOpened.increment();
+    }
+
+    @Override
+    public void connectionReused(WebhookEndpoint endpoint) {
+        connectionsReused.increment();
+    }
+
+    public long requests() {
+        return requests.sum();
+    }
+
+    public long failures() {
+        return failures.sum();
+    }
+
+    public long retries() {
+        return retries.sum();
+    }
+
+    public long inFlight() {
+        return inFlight.sum();
+    }
+
+    public long connectionsOpened() {
+        return connectionsOpened.sum();
+    }
+
+    public long connectionsReused() {
+        return connectionsReused.sum();
+    }
+
+    public long statusCount(int statusCode) {
+        return statusCounts.count(statusCode);
+    }
+
+    public Map<Integer, Long> statusCounts() {
+        return statusCounts.snapshot();
+    }
+
+    public LatencyHistogram latency() {
+        return latency;
+    }
+
+    public LatencyHistogram serializationTime() {
+        return serializationTime;
+    }
+
+    public LatencyHistogram rateLimitWait() {
+        return rateLimitWait;
+    }
+
+    public Map<String, EndpointMetrics> endpoints() {
+        return Collections.unmodifiableMap(endpoints);
+    }
+
+    private EndpointMetrics endpoint(WebhookEndpoint endpoint) {
+        EndpointMetrics metrics = endpoints.get(endpoint.id());
+        return metrics != null ? metrics : endpoints.computeIfAbsent(endpoint.id(), EndpointMetrics::new);
+    }
+}
@@ -0,0 +1,82 @@
+package com.moocrest.webhook.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long value) {
+        long recorded = Math.max(0, value);
+        counts.incrementAndGet(indexOf(recorded));
+        count.increment();
+        total.add(recorded);
+        if (recorded > max.get()) {
+            max.accumulateAndGet(recorded, Math::max);
+        }
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public long max() {
+        return max.get();
+    }
+
+    public double mean() {
+        long samples = count.sum();
+        return samples == 0 ? 0.0 : (double) total.sum() / samples;
+    }
+
+    public long valueAtPercentile(double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        }
+        long[] snapshot = new long[BUCKETS];
+        long samples = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            samples += snapshot[i];
+        }
+        if (samples == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * samples));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= target) {
+                return Math.min(highestEquivalentValue(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long subBucket = index % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,142 @@
+package com.moocrest.webhook.metrics;
+
+import com.moocrest.webhook.util.WebhookEndpoint;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class MicrometerWebhookMetrics implements WebhookMetrics {
+
+    private static final String PREFIX = "crest.webhook.";
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final int MIN_STATUS = 100;
+    private static final int MAX_STATUS = 599;
+
+    private final MeterRegistry registry;
+    private final Map<String, EndpointMeters> endpoints = new ConcurrentHashMap<>();
+    private final Timer latency;
+    private final Timer serializationTime;
+    private final Timer rateLimitWait;
+    private final Counter connectionsOpened;
+    private final Counter connectionsReused;
+    private final LongAdder inFlight = new LongAdder();
+
+    public MicrometerWebhookMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.latency = Timer.builder(PREFIX + "request.latency")
+                .description("HTTP round trip time of webhook requests")
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .register(registry);
+        this.serializationTime = Timer.builder(PREFIX + "serialization")
+                .description("Time spent serializing webhook payloads")
+                .publishPercentiles(PERCENTILES)
+                .register(registry);
+        this.rateLimitWait = Timer.builder(PREFIX + "ratelimit.wait")
+                .description("Time spent waiting for a rate limit slot")
+                .publishPercentiles(PERCENTILES)
+                .register(registry);
+        this.connectionsOpened = Counter.builder(PREFIX + "connections")
+                .description("Webhook responses by new or pooled connection")
+                .tag("state", "opened")
+                .register(registry);
+        this.connectionsReused = Counter.builder(PREFIX + "connections")
+                .description("Webhook responses by new or pooled connection")
+                .tag("state", "reused")
+                .register(registry);
+        Gauge.builder(PREFIX + "requests.inflight", inFlight, LongAdder::doubleValue)
+                .description("Webhook requests currently awaiting a response")
+                .register(registry);
+    }
+
+    @Override
+    public void serialized(long nanos) {
+        serializationTime.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void rateLimitWaited(WebhookEndpoint endpoint, long nanos) {
+        rateLimitWait.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void requestStarted(WebhookEndpoint endpoint) {
+        inFlight.increment();
+    }
+
+    @Override
+    public void responseReceived(WebhookEndpoint endpoint, int statusCode, long latencyNanos) {
+        inFlight.decrement();
+        latency.record(latencyNanos, TimeUnit.NANOSECONDS);
+        endpoint(endpoint).status(statusCode).increment();
+    }
+
+    @Override
+    public void requestFailed(WebhookEndpoint endpoint, Throwable error, long latencyNanos) {
+        inFlight.decrement();
+        latency.record(latencyNanos, TimeUnit.NANOSECONDS);
+        endpoint(endpoint).failures.increment();
+    }
+
+    @Override
+    public void retried(WebhookEndpoint endpoint, int attempt) {
+        endpoint(endpoint).retries.increment();
+    }
+
+    @Override
+    public void connectionOpened(WebhookEndpoint endpoint) {
+        connectionsOpened.increment();
+    }
+
+    @Override
+    public void connectionReused(WebhookEndpoint endpoint) {
+        connectionsReused.increment();
+    }
+
+    private EndpointMeters endpoint(WebhookEndpoint endpoint) {
+        EndpointMeters meters = endpoints.get(endpoint.id());
+        return meters != null ? meters : endpoints.computeIfAbsent(endpoint.id(), EndpointMeters::new);
+    }
+
+    private final class EndpointMeters {
+
+        private final String endpointId;
+        private final AtomicReferenceArray<Counter> statuses =
+                new AtomicReferenceArray<>(MAX_STATUS - MIN_STATUS + 1);
+        private final Counter failures;
+        private final Counter retries;
+
+        private EndpointMeters(String endpointId) {
+            this.endpointId = endpointId;
+            this.failures = Counter.builder(PREFIX + "requests.failed")
+                    .description("Webhook requests that failed without an HTTP response")
+                    .tag("endpoint", endpointId)
+                    .register(registry);
+            this.retries = Counter.builder(PREFIX + "retries")
+                    .description("Webhook delivery retries")
+                    .tag("endpoint", endpointId)
+                    .register(registry);
+        }
+
+        private Counter status(int statusCode) {
+            int index = Math.min(Math.max(statusCode, MIN_STATUS), MAX_STATUS) - MIN_STATUS;
+            Counter counter = statuses.get(index);
+            if (counter == null) {
+                counter = Counter.builder(PREFIX + "requests")
+                        .description("Webhook responses by endpoint and status code")
+                        .tag("endpoint", endpointId)
+                        .tag("status", Integer.toString(index + MIN_STATUS))
+                        .register(registry);
+                statuses.compareAndSet(index, null, counter);
+            }
+            return counter;
+        }
+    }
+}
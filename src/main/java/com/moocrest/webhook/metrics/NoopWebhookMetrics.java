@@ -0,0 +1,5 @@
+package com.moocrest.webhook.metrics;
+
+enum NoopWebhookMetrics implements WebhookMetrics {
+    INSTANCE
+}
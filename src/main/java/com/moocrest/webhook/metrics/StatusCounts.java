@@ -0,0 +1,44 @@
+package com.moocrest.webhook.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+final class StatusCounts {
+
+    private static final int MIN_STATUS = 100;
+    private static final int MAX_STATUS = 599;
+
+    private final AtomicReferenceArray<LongAdder> counts = new AtomicReferenceArray<>(MAX_STATUS - MIN_STATUS + 1);
+
+    void record(int statusCode) {
+        int index = Math.min(Math.max(statusCode, MIN_STATUS), MAX_STATUS) - MIN_STATUS;
+        LongAdder counter = counts.get(index);
+        if (counter == null) {
+            counts.compareAndSet(index, null, new LongAdder());
+            counter = counts.get(index);
+        }
+        counter.increment();
+    }
+
+    long count(int statusCode) {
+        if (statusCode < MIN_STATUS || statusCode > MAX_STATUS) {
+            return 0;
+        }
+        LongAdder counter = counts.get(statusCode - MIN_STATUS);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    Map<Integer, Long> snapshot() {
+        Map<Integer, Long> snapshot = new TreeMap<>();
+        for (int i = 0; i < counts.length(); i++) {
+            LongAdder counter = counts.get(i);
+            if (counter != null) {
+                snapshot.put(i + MIN_STATUS, counter.sum());
+            }
+        }
+        return Collections.unmodifiableMap(snapshot);
+    }
+}
@@ -0,0 +1,34 @@
+package com.moocrest.webhook.metrics;
+
+import com.moocrest.webhook.util.WebhookEndpoint;
+
+public interface WebhookMetrics {
+
+    static WebhookMetrics noop() {
+        return NoopWebhookMetrics.INSTANCE;
+    }
+
+    default void serialized(long nanos) {
+    }
+
+    default void rateLimitWaited(WebhookEndpoint endpoint, long nanos) {
+    }
+
+    default void requestStarted(WebhookEndpoint endpoint) {
+    }
+
+    default void responseReceived(WebhookEndpoint endpoint, int statusCode, long latencyNanos) {
+    }
+
+    default void requestFailed(WebhookEndpoint endpoint, Throwable error, long latencyNanos) {
+    }
+
+    default void retried(WebhookEndpoint endpoint, int attempt) {
+    }
+
+    default void connectionOpened(WebhookEndpoint endpoint) {
+    }
+
+    default void connectionReused(WebhookEndpoint endpoint) {
+    }
+}
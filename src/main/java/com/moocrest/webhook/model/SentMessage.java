@@ -0,0 +1,16 @@
+package com.moocrest.webhook.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record SentMessage(
+        String id,
+        @JsonProperty("channel_id") String channelId,
+        @JsonProperty("webhook_id") String webhookId) {
+    public SentMessage {
+        if (id == null || id.isEmpty()) {
+            throw new IllegalArgumentException("id must not be empty");
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.moocrest.webhook.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.net.URLConnection;
+import java.nio.file.Path;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record WebhookAttachment(
+        int id,
+        String filename,
+        String description,
+        @JsonIgnore Path path,
+        @JsonIgnore String contentType) {
+
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    public WebhookAttachment {
+        if (id < 0) {
+            throw new IllegalArgumentException("id must not be negative");
+        }
+        if (path == null) {
+            throw new IllegalArgumentException("path must not be null");
+        }
+        if (filename == null || filename.isBlank()) {
+            throw new IllegalArgumentException("filename must not be blank");
+        }
+        if (contentType == null) {
+            String guessed = URLConnection.guessContentTypeFromName(filename);
+            contentType = guessed != null ? guessed : DEFAULT_CONTENT_TYPE;
+        }
+    }
+
+    public static WebhookAttachment of(Path path) {
+        Path name = path != null ? path.getFileName() : null;
+        return of(path, name != null ? name.toString() : null);
+    }
+
+    public static WebhookAttachment of(Path path, String filename) {
+        return new WebhookAttachment(0, filename, null, path, null);
+    }
+
+    public WebhookAttachment withDescription(String description) {
+        return new WebhookAttachment(id, filename, description, path, contentType);
+    }
+
+    public WebhookAttachment withContentType(String contentType) {
+        return new WebhookAttachment(id, filename, description, path, contentType);
+    }
+
+    public WebhookAttachment withId(int id) {
+        return new WebhookAttachment(id, filename, description, path, contentType);
+    }
+}
@@ -3,6 +3,7 @@ package com.moocrest.webhook.model;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.moocrest.webhook.builder.WebhookEmbedBuilder;
 
 import java.time.Instant;
@@ -21,6 +22,10 @@ public record WebhookEmbed(
         Thumbnail thumbnail,
         Author author,
         List<Field> fields) {
+    public WebhookEmbed {
+        fields = fields != null ? List.copyOf(WebhookMessage.withoutNulls(fields)) : null;
+    }
+
     public static WebhookEmbedBuilder builder() {
         return new WebhookEmbedBuilder();
     }
@@ -48,6 +53,7 @@ public record WebhookEmbed(
 
     @JsonIgnoreProperties(ignoreUnknown = true)
     @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonPropertyOrder({"url", "proxy_url", "height", "width"})
     public record Image(
             String url,
             @JsonProperty("proxy_url") String proxyUrl,
@@ -60,6 +66,7 @@ public record WebhookEmbed(
 
     @JsonIgnoreProperties(ignoreUnknown = true)
     @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonPropertyOrder({"url", "proxy_url", "height", "width"})
     public record Thumbnail(
             String url,
             @JsonProperty("proxy_url") String proxyUrl,
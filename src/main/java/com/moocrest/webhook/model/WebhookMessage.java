@@ -3,19 +3,33 @@ package com.moocrest.webhook.model;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.moocrest.webhook.builder.WebhookBuilder;
 
 import java.util.List;
+import java.util.Objects;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"content", "username", "avatar_url", "embeds", "thread_name", "flags", "attachments"})
 public record WebhookMessage(
         String content,
         String username,
         @JsonProperty("avatar_url") String avatarUrl,
         List<WebhookEmbed> embeds,
         @JsonProperty("thread_name") String threadName,
-        Integer flags) {
+        Integer flags,
+        List<WebhookAttachment> attachments) {
+    public WebhookMessage {
+        embeds = embeds != null ? List.copyOf(withoutNulls(embeds)) : null;
+        attachments = attachments != null ? List.copyOf(withoutNulls(attachments)) : null;
+    }
+
+    public WebhookMessage(String content, String username, String avatarUrl, List<WebhookEmbed> embeds,
+            String threadName, Integer flags) {
+        this(content, username, avatarUrl, embeds, threadName, flags, null);
+    }
+
     public static WebhookBuilder builder() {
         return new WebhookBuilder();
     }
@@ -27,6 +41,11 @@ public record WebhookMessage(
                 .avatarUrl(avatarUrl)
                 .embeds(embeds)
                 .threadName(threadName)
-                .flags(flags);
+                .flags(flags)
+                .attachments(attachments);
+    }
+
+    static <T> List<T> withoutNulls(List<T> list) {
+        return list.stream().anyMatch(Objects::isNull) ? list.stream().filter(Objects::nonNull).toList() : list;
     }
 }
\ No newline at end of file
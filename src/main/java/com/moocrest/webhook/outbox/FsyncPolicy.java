@@ -0,0 +1,7 @@
+package com.moocrest.webhook.outbox;
+
+public enum FsyncPolicy {
+    ALWAYS,
+    INTERVAL,
+    NEVER
+}
@@ -0,0 +1,44 @@
+package com.moocrest.webhook.outbox;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+public record OutboxPolicy(
+        Path directory,
+        long maxSegmentBytes,
+        FsyncPolicy fsyncPolicy,
+        Duration fsyncInterval,
+        Duration redeliveryDelay) {
+
+    private static final Duration DEFAULT_REDELIVERY_DELAY = Duration.ofSeconds(5);
+
+    public OutboxPolicy {
+        if (directory == null) {
+            throw new IllegalArgumentException("directory must not be null");
+        }
+        if (maxSegmentBytes < 1024) {
+            throw new IllegalArgumentException("maxSegmentBytes must be at least 1024");
+        }
+        if (fsyncPolicy == null) {
+            throw new IllegalArgumentException("fsyncPolicy must not be null");
+        }
+        if (fsyncInterval == null || fsyncInterval.isNegative()) {
+            throw new IllegalArgumentException("fsyncInterval must not be negative");
+        }
+        if (redeliveryDelay == null || redeliveryDelay.isNegative() || redeliveryDelay.isZero()) {
+            throw new IllegalArgumentException("redeliveryDelay must be positive");
+        }
+    }
+
+    public OutboxPolicy(Path directory, long maxSegmentBytes, FsyncPolicy fsyncPolicy, Duration fsyncInterval) {
+        this(directory, maxSegmentBytes, fsyncPolicy, fsyncInterval, DEFAULT_REDELIVERY_DELAY);
+    }
+
+    public static OutboxPolicy durable(Path directory) {
+        return new OutboxPolicy(directory, 16L * 1024 * 1024, FsyncPolicy.ALWAYS, Duration.ZERO);
+    }
+
+    public static OutboxPolicy lowLatency(Path directory) {
+        return new OutboxPolicy(directory, 16L * 1024 * 1024, FsyncPolicy.INTERVAL, Duration.ofMillis(100));
+    }
+}
@@ -0,0 +1,81 @@
+package com.moocrest.webhook.outbox;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+record OutboxRecord(
+        byte type,
+        long id,
+        String webhookUrl,
+        byte[] payload) {
+
+    static final byte ENQUEUE = 1;
+    static final byte ACK = 2;
+
+    private static final int FRAME_HEADER_BYTES = Integer.BYTES * 2;
+
+    static OutboxRecord enqueue(long id, String webhookUrl, byte[] payload) {
+        return new OutboxRecord(ENQUEUE, id, webhookUrl, payload);
+    }
+
+    static OutboxRecord ack(long id) {
+        return new OutboxRecord(ACK, id, null, null);
+    }
+
+    ByteBuffer encode() {
+        byte[] url = webhookUrl != null ? webhookUrl.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        int bodyLength = 1 + Long.BYTES;
+        if (type == ENQUEUE) {
+            bodyLength += Integer.BYTES + url.length + payload.length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(FRAME_HEADER_BYTES + bodyLength);
+        buffer.putInt(bodyLength).putInt(0).put(type).putLong(id);
+        if (type == ENQUEUE) {
+            buffer.putInt(url.length).put(url).put(payload);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), FRAME_HEADER_BYTES, bodyLength);
+        buffer.putInt(Integer.BYTES, (int) crc.getValue());
+        return buffer.flip();
+    }
+
+    static OutboxRecord decode(ByteBuffer buffer) {
+        if (buffer.remaining() < FRAME_HEADER_BYTES) {
+            return null;
+        }
+        int start = buffer.position();
+        int bodyLength = buffer.getInt(start);
+        int checksum = buffer.getInt(start + Integer.BYTES);
+        if (bodyLength < 1 + Long.BYTES || bodyLength > buffer.remaining() - FRAME_HEADER_BYTES) {
+            return null;
+        }
+
+        ByteBuffer body = buffer.slice(start + FRAME_HEADER_BYTES, bodyLength);
+        CRC32 crc = new CRC32();
+        crc.update(body.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            return null;
+        }
+
+        byte type = body.get();
+        long id = body.getLong();
+        OutboxRecord record;
+        if (type == ENQUEUE) {
+            byte[] url = new byte[body.getInt()];
+            body.get(url);
+            byte[] payload = new byte[body.remaining()];
+            body.get(payload);
+            record = enqueue(id, new String(url, StandardCharsets.UTF_8), payload);
+        } else if (type == ACK) {
+            record = ack(id);
+        } else {
+            return null;
+        }
+
+        buffer.position(start + FRAME_HEADER_BYTES + bodyLength);
+        return record;
+    }
+}
@@ -0,0 +1,111 @@
+package com.moocrest.webhook.outbox;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+final class OutboxSegment {
+
+    private static final String PREFIX = "segment-";
+    private static final String SUFFIX = ".log";
+
+    private final long id;
+    private final Path path;
+    private FileChannel channel;
+    private long size;
+    private int liveEntries;
+
+    private OutboxSegment(long id, Path path) {
+        this.id = id;
+        this.path = path;
+    }
+
+    static OutboxSegment create(Path directory, long id) throws IOException {
+        OutboxSegment segment = new OutboxSegment(id, directory.resolve(fileName(id)));
+        segment.channel = FileChannel.open(segment.path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        return segment;
+    }
+
+    static List<OutboxSegment> existing(Path directory) throws IOException {
+        List<OutboxSegment> segments = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(PREFIX) && name.endsWith(SUFFIX))
+                    .sorted()
+                    .forEach(name -> segments.add(new OutboxSegment(
+                            Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length())),
+                            directory.resolve(name))));
+        }
+        return segments;
+    }
+
+    List<OutboxRecord> read() throws IOException {
+        List<OutboxRecord> records = new ArrayList<>();
+        try (FileChannel readChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (readChannel.size() == 0) {
+                return records;
+            }
+            MappedByteBuffer mapped = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, readChannel.size());
+            OutboxRecord record;
+            while ((record = OutboxRecord.decode(mapped)) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    void write(ByteBuffer[] buffers, long bytes) throws IOException {
+        long written = 0;
+        while (written < bytes) {
+            written += channel.write(buffers);
+        }
+        size += bytes;
+    }
+
+    void force() throws IOException {
+        channel.force(false);
+    }
+
+    void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(path);
+    }
+
+    long id() {
+        return id;
+    }
+
+    long size() {
+        return size;
+    }
+
+    int liveEntries() {
+        return liveEntries;
+    }
+
+    void addLiveEntry() {
+        liveEntries++;
+    }
+
+    void removeLiveEntry() {
+        liveEntries--;
+    }
+
+    private static String fileName(long id) {
+        return String.format("%s%020d%s", PREFIX, id, SUFFIX);
+    }
+}
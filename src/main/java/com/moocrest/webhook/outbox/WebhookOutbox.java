@@ -0,0 +1,320 @@
+package com.moocrest.webhook.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.moocrest.webhook.model.WebhookMessage;
+import com.moocrest.webhook.sender.WebhookClient;
+import com.moocrest.webhook.util.WebhookEndpoint;
+import com.moocrest.webhook.util.WebhookException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class WebhookOutbox implements AutoCloseable {
+
+    private static final int MAX_BATCH = 1024;
+    private static final long IDLE_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final WebhookClient client;
+    private final OutboxPolicy policy;
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final BlockingQueue<PendingWrite> writes = new LinkedBlockingQueue<>();
+    private final Map<Long, OutboxSegment> segments = new TreeMap<>();
+    private final Map<Long, OutboxSegment> entrySegments = new HashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Object writeLock = new Object();
+    private final Thread writer;
+    private volatile boolean running = true;
+    private OutboxSegment active;
+    private long lastSyncNanos;
+    private boolean dirty;
+
+    private WebhookOutbox(WebhookClient client, OutboxPolicy policy) {
+        this.client = client;
+        this.policy = policy;
+        this.writer = new Thread(this::runWriter, "crest-webhook-outbox");
+        this.writer.setDaemon(true);
+    }
+
+    public static WebhookOutbox open(WebhookClient client, OutboxPolicy policy) {
+        WebhookOutbox outbox = new WebhookOutbox(client, policy);
+        List<OutboxRecord> unacknowledged;
+        try {
+            Files.createDirectories(policy.directory());
+            unacknowledged = outbox.recover();
+        } catch (IOException e) {
+            throw WebhookException.storageError(policy.directory(), e);
+        }
+        outbox.writer.start();
+        unacknowledged.forEach(outbox::replay);
+        return outbox;
+    }
+
+    public CompletableFuture<Boolean> send(String webhookUrl, WebhookMessage message) {
+        if (message.attachments() != null) {
+            return CompletableFuture.failedFuture(
+                    new IllegalArgumentException("Messages with attachments cannot be stored in the outbox"));
+        }
+        byte[] payload;
+        try {
+            WebhookEndpoint.of(webhookUrl);
+            payload = objectMapper.writeValueAsBytes(message);
+        } catch (WebhookException e) {
+            return CompletableFuture.failedFuture(e);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(WebhookException.serializationError(e));
+        }
+
+        long id = nextId.getAndIncrement();
+        return append(OutboxRecord.enqueue(id, webhookUrl, payload))
+                .thenCompose(ignored -> {
+                    pending.incrementAndGet();
+                    return deliver(id, webhookUrl, message);
+                });
+    }
+
+    public int pendingCount() {
+        return pending.get();
+    }
+
+    @Override
+    public void close() {
+        synchronized (writeLock) {
+            running = false;
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        PendingWrite leftover;
+        while ((leftover = writes.poll()) != null) {
+            leftover.persisted().completeExceptionally(new WebhookException("Outbox is closed"));
+        }
+
+        try {
+            if (dirty && policy.fsyncPolicy() != FsyncPolicy.NEVER) {
+                active.force();
+            }
+            for (OutboxSegment segment : segments.values()) {
+                segment.close();
+            }
+        } catch (IOException e) {
+            throw WebhookException.storageError(policy.directory(), e);
+        }
+    }
+
+    private List<OutboxRecord> recover() throws IOException {
+        Map<Long, OutboxRecord> live = new LinkedHashMap<>();
+        long lastSegmentId = 0;
+        long lastEntryId = 0;
+
+        for (OutboxSegment segment : OutboxSegment.existing(policy.directory())) {
+            segments.put(segment.id(), segment);
+            lastSegmentId = Math.max(lastSegmentId, segment.id());
+            for (OutboxRecord record : segment.read()) {
+                lastEntryId = Math.max(lastEntryId, record.id());
+                if (record.type() == OutboxRecord.ENQUEUE) {
+                    live.put(record.id(), record);
+                    entrySegments.put(record.id(), segment);
+                    segment.addLiveEntry();
+                } else if (live.remove(record.id()) != null) {
+                    entrySegments.remove(record.id()).removeLiveEntry();
+                }
+            }
+        }
+
+        compact();
+
+        active = OutboxSegment.create(policy.directory(), lastSegmentId + 1);
+        segments.put(active.id(), active);
+        nextId.set(lastEntryId + 1);
+        pending.set(live.size());
+        lastSyncNanos = System.nanoTime();
+        return new ArrayList<>(live.values());
+    }
+
+    private void replay(OutboxRecord record) {
+        WebhookMessage message;
+        try {
+            message = objectMapper.readValue(record.payload(), WebhookMessage.class);
+        } catch (IOException e) {
+            acknowledge(record.id());
+            return;
+        }
+        deliver(record.id(), record.webhookUrl(), message);
+    }
+
+    private CompletableFuture<Boolean> deliver(long id, String webhookUrl, WebhookMessage message) {
+        return client.sendWebhook(webhookUrl, message).whenComplete((success, error) -> {
+            if (Boolean.TRUE.equals(success) || error != null && isPermanentFailure(error)) {
+                acknowledge(id);
+            } else {
+                redeliverLater(id, webhookUrl, message);
+            }
+        });
+    }
+
+    private void redeliverLater(long id, String webhookUrl, WebhookMessage message) {
+        if (!running) {
+            return;
+        }
+        CompletableFuture.runAsync(() -> {
+            if (running) {
+                deliver(id, webhookUrl, message);
+            }
+        }, CompletableFuture.delayedExecutor(policy.redeliveryDelay().toNanos(), TimeUnit.NANOSECONDS));
+    }
+
+    private void acknowledge(long id) {
+        pending.decrementAndGet();
+        append(OutboxRecord.ack(id));
+    }
+
+    private CompletableFuture<Void> append(OutboxRecord record) {
+        PendingWrite write = new PendingWrite(record, record.encode(), new CompletableFuture<>());
+        synchronized (writeLock) {
+            if (!running) {
+                return CompletableFuture.failedFuture(new WebhookException("Outbox is closed"));
+            }
+            writes.add(write);
+        }
+        return write.persisted();
+    }
+
+    private void runWriter() {
+        List<PendingWrite> batch = new ArrayList<>();
+        while (running || !writes.isEmpty()) {
+            try {
+                PendingWrite first = writes.poll(pollTimeoutNanos(), TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    writes.drainTo(batch, MAX_BATCH - 1);
+                    writeBatch(batch);
+                }
+                syncIfDue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException e) {
+                WebhookException error = WebhookException.storageError(policy.directory(), e);
+                batch.forEach(write -> write.persisted().completeExceptionally(error));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBatch(List<PendingWrite> batch) throws IOException {
+        ByteBuffer[] buffers = new ByteBuffer[batch.size()];
+        long bytes = 0;
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = batch.get(i).buffer();
+            bytes += buffers[i].remaining();
+        }
+
+        if (active.size() > 0 && active.size() + bytes > policy.maxSegmentBytes()) {
+            rollSegment();
+        }
+        active.write(buffers, bytes);
+        dirty = true;
+
+        for (PendingWrite write : batch) {
+            if (write.record().type() == OutboxRecord.ENQUEUE) {
+                entrySegments.put(write.record().id(), active);
+                active.addLiveEntry();
+            } else {
+                release(write.record().id());
+            }
+        }
+
+        if (policy.fsyncPolicy() == FsyncPolicy.ALWAYS) {
+            sync();
+        }
+        batch.forEach(write -> write.persisted().complete(null));
+    }
+
+    private void release(long id) throws IOException {
+        OutboxSegment segment = entrySegments.remove(id);
+        if (segment == null) {
+            return;
+        }
+        segment.removeLiveEntry();
+        if (segment != active && segment.liveEntries() == 0) {
+            compact();
+        }
+    }
+
+    private void compact() throws IOException {
+        Iterator<OutboxSegment> iterator = segments.values().iterator();
+        while (iterator.hasNext()) {
+            OutboxSegment segment = iterator.next();
+            if (segment == active || segment.liveEntries() > 0) {
+                return;
+            }
+            segment.delete();
+            iterator.remove();
+        }
+    }
+
+    private void rollSegment() throws IOException {
+        if (dirty && policy.fsyncPolicy() != FsyncPolicy.NEVER) {
+            sync();
+        }
+        OutboxSegment previous = active;
+        active = OutboxSegment.create(policy.directory(), previous.id() + 1);
+        segments.put(active.id(), active);
+        previous.close();
+        compact();
+    }
+
+    private void syncIfDue() throws IOException {
+        if (dirty && policy.fsyncPolicy() == FsyncPolicy.INTERVAL
+                && System.nanoTime() - lastSyncNanos >= policy.fsyncInterval().toNanos()) {
+            sync();
+        }
+    }
+
+    private void sync() throws IOException {
+        active.force();
+        dirty = false;
+        lastSyncNanos = System.nanoTime();
+    }
+
+    private long pollTimeoutNanos() {
+        if (dirty && policy.fsyncPolicy() == FsyncPolicy.INTERVAL) {
+            long remaining = policy.fsyncInterval().toNanos() - (System.nanoTime() - lastSyncNanos);
+            return Math.max(0, Math.min(remaining, IDLE_POLL_NANOS));
+        }
+        return IDLE_POLL_NANOS;
+    }
+
+    private static boolean isPermanentFailure(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof WebhookException webhookException) {
+            int statusCode = webhookException.statusCode();
+            return webhookException.isPermanent() || statusCode >= 400 && statusCode < 500 && statusCode != 429;
+        }
+        return false;
+    }
+
+    private record PendingWrite(OutboxRecord record, ByteBuffer buffer, CompletableFuture<Void> persisted) {
+    }
+}
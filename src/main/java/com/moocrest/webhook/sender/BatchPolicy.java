@@ -0,0 +1,29 @@
+package com.moocrest.webhook.sender;
+
+import java.time.Duration;
+
+public record BatchPolicy(
+        Duration maxDelay,
+        int maxMessages,
+        int maxBulkPending) {
+
+    public BatchPolicy {
+        if (maxDelay == null || maxDelay.isNegative()) {
+            throw new IllegalArgumentException("maxDelay must not be negative");
+        }
+        if (maxMessages < 1) {
+            throw new IllegalArgumentException("maxMessages must be at least 1");
+        }
+        if (maxBulkPending < maxMessages) {
+            throw new IllegalArgumentException("maxBulkPending must be at least maxMessages");
+        }
+    }
+
+    public BatchPolicy(Duration maxDelay, int maxMessages) {
+        this(maxDelay, maxMessages, Math.max(maxMessages, 500));
+    }
+
+    public static BatchPolicy defaultPolicy() {
+        return new BatchPolicy(Duration.ofSeconds(1), 50);
+    }
+}
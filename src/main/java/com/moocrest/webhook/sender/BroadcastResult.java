@@ -0,0 +1,56 @@
+package com.moocrest.webhook.sender;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+public record BroadcastResult(
+        Map<String, Boolean> delivered,
+        Map<String, Throwable> failures) {
+
+    public BroadcastResult {
+        delivered = Collections.unmodifiableMap(new LinkedHashMap<>(delivered));
+        failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+    }
+
+    static BroadcastResult of(Map<String, CompletableFuture<Boolean>> sends) {
+        Map<String, Boolean> delivered = new LinkedHashMap<>();
+        Map<String, Throwable> failures = new LinkedHashMap<>();
+        sends.forEach((webhookUrl, send) -> {
+            try {
+                delivered.put(webhookUrl, send.join());
+            } catch (CompletionException e) {
+                delivered.put(webhookUrl, false);
+                failures.put(webhookUrl, e.getCause() != null ? e.getCause() : e);
+            }
+        });
+        return new BroadcastResult(delivered, failures);
+    }
+
+    public boolean allDelivered() {
+        return !delivered.containsValue(false);
+    }
+
+    public int deliveredCount() {
+        return (int) delivered.values().stream().filter(Boolean::booleanValue).count();
+    }
+
+    public boolean isDelivered(String webhookUrl) {
+        return delivered.getOrDefault(webhookUrl, false);
+    }
+
+    public Optional<Throwable> failure(String webhookUrl) {
+        return Optional.ofNullable(failures.get(webhookUrl));
+    }
+
+    public List<String> undelivered() {
+        return delivered.entrySet().stream()
+                .filter(entry -> !entry.getValue())
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+}
@@ -0,0 +1,49 @@
+package com.moocrest.webhook.sender;
+
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+final class ByteArrayBodyPublisher implements HttpRequest.BodyPublisher {
+
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+
+    ByteArrayBodyPublisher(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public long contentLength() {
+        return length;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        subscriber.onSubscribe(new Flow.Subscription() {
+            private final AtomicBoolean done = new AtomicBoolean();
+
+            @Override
+            public void request(long n) {
+                if (!done.compareAndSet(false, true)) {
+                    return;
+                }
+                if (n <= 0) {
+                    subscriber.onError(new IllegalArgumentException("Requested " + n + " items"));
+                    return;
+                }
+                subscriber.onNext(ByteBuffer.wrap(bytes, offset, length).slice());
+                subscriber.onComplete();
+            }
+
+            @Override
+            public void cancel() {
+                done.set(true);
+            }
+        });
+    }
+}
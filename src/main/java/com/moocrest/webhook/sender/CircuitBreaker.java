@@ -0,0 +1,121 @@
+package com.moocrest.webhook.sender;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+final class CircuitBreaker {
+
+    private static final State HEALTHY = new State(CircuitState.CLOSED, 0, 0, 0L);
+    private static final State PERMANENT = new State(CircuitState.PERMANENTLY_OPEN, 0, 0, 0L);
+
+    private final CircuitBreakerPolicy policy;
+    private final long openNanos;
+    private final AtomicReference<State> state = new AtomicReference<>(HEALTHY);
+
+    CircuitBreaker(CircuitBreakerPolicy policy) {
+        this.policy = policy;
+        this.openNanos = policy.openDuration().toNanos();
+    }
+
+    boolean tryAcquire(long now) {
+        while (true) {
+            State current = state.get();
+            switch (current.state()) {
+                case CLOSED:
+                    return true;
+                case PERMANENTLY_OPEN:
+                    return false;
+                default:
+                    if (now - current.until() < 0) {
+                        return false;
+                    }
+                    State probe = new State(CircuitState.HALF_OPEN, 0, 0, now + openNanos);
+                    if (state.compareAndSet(current, probe)) {
+                        return true;
+                    }
+            }
+        }
+    }
+
+    void onResponse(int statusCode, long now) {
+        if (statusCode == 401 || statusCode == 404) {
+            if (policy.tripOnInvalidWebhook()) {
+                state.set(PERMANENT);
+            } else {
+                onSuccess();
+            }
+        } else if (statusCode >= 500) {
+            onFailure(true, now);
+        } else {
+            onSuccess();
+        }
+    }
+
+    void onTransportFailure(Throwable error, long now) {
+        if (error instanceof IOException || error.getCause() instanceof IOException) {
+            onFailure(false, now);
+        }
+    }
+
+    CircuitState state(long now) {
+        State current = state.get();
+        if (current.state() == CircuitState.OPEN && now - current.until() >= 0) {
+            return CircuitState.HALF_OPEN;
+        }
+        return current.state();
+    }
+
+    boolean isPermanentlyOpen() {
+        return state.get() == PERMANENT;
+    }
+
+    boolean isHealthy() {
+        return state.get() == HEALTHY;
+    }
+
+    void reset() {
+        state.set(HEALTHY);
+    }
+
+    private void onSuccess() {
+        State current;
+        do {
+            current = state.get();
+            if (current == HEALTHY || current == PERMANENT) {
+                return;
+            }
+        } while (!state.compareAndSet(current, HEALTHY));
+    }
+
+    private void onFailure(boolean serverError, long now) {
+        while (true) {
+            State current = state.get();
+            State next;
+            switch (current.state()) {
+                case PERMANENTLY_OPEN:
+                case OPEN:
+                    return;
+                case HALF_OPEN:
+                    next = open(now);
+                    break;
+                default:
+                    int serverErrors = current.serverErrors() + (serverError ? 1 : 0);
+                    int transportFailures = current.transportFailures() + (serverError ? 0 : 1);
+                    next = serverErrors >= policy.serverErrorThreshold()
+                            || transportFailures >= policy.timeoutThreshold()
+                            ? open(now)
+                            : new State(CircuitState.CLOSED, serverErrors, transportFailures, 0L);
+            }
+            if (state.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    private State open(long now) {
+        return new State(CircuitState.OPEN, 0, 0, now + openNanos);
+    }
+
+    private record State(CircuitState state, int serverErrors, int transportFailures, long until) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.moocrest.webhook.sender;
+
+import java.time.Duration;
+
+public record CircuitBreakerPolicy(
+        int serverErrorThreshold,
+        int timeoutThreshold,
+        Duration openDuration,
+        boolean tripOnInvalidWebhook) {
+
+    public CircuitBreakerPolicy {
+        if (serverErrorThreshold < 1) {
+            throw new IllegalArgumentException("serverErrorThreshold must be at least 1");
+        }
+        if (timeoutThreshold < 1) {
+            throw new IllegalArgumentException("timeoutThreshold must be at least 1");
+        }
+        if (openDuration == null || openDuration.isNegative() || openDuration.isZero()) {
+            throw new IllegalArgumentException("openDuration must be positive");
+        }
+    }
+
+    public static CircuitBreakerPolicy defaultPolicy() {
+        return new CircuitBreakerPolicy(5, 3, Duration.ofSeconds(30), true);
+    }
+
+    public static CircuitBreakerPolicy disabled() {
+        return new CircuitBreakerPolicy(Integer.MAX_VALUE, Integer.MAX_VALUE, Duration.ofSeconds(30), false);
+    }
+}
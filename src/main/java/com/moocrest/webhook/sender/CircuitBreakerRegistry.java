@@ -0,0 +1,41 @@
+package com.moocrest.webhook.sender;
+
+import com.moocrest.webhook.util.WebhookEndpoint;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class CircuitBreakerRegistry {
+
+    private static final int EVICTION_THRESHOLD = 1024;
+
+    private final CircuitBreakerPolicy policy;
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    CircuitBreakerRegistry(CircuitBreakerPolicy policy) {
+        this.policy = policy;
+    }
+
+    CircuitBreaker get(WebhookEndpoint endpoint) {
+        CircuitBreaker breaker = breakers.get(endpoint.route());
+        if (breaker != null) {
+            return breaker;
+        }
+        if (breakers.size() > EVICTION_THRESHOLD) {
+            breakers.values().removeIf(CircuitBreaker::isHealthy);
+        }
+        return breakers.computeIfAbsent(endpoint.route(), route -> new CircuitBreaker(policy));
+    }
+
+    CircuitState state(WebhookEndpoint endpoint) {
+        CircuitBreaker breaker = breakers.get(endpoint.route());
+        return breaker == null ? CircuitState.CLOSED : breaker.state(System.nanoTime());
+    }
+
+    void reset(WebhookEndpoint endpoint) {
+        CircuitBreaker breaker = breakers.get(endpoint.route());
+        if (breaker != null) {
+            breaker.reset();
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.moocrest.webhook.sender;
+
+public enum CircuitState {
+    CLOSED,
+    OPEN,
+    HALF_OPEN,
+    PERMANENTLY_OPEN
+}
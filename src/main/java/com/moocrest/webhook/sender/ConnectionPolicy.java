@@ -0,0 +1,35 @@
+package com.moocrest.webhook.sender;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+public record ConnectionPolicy(
+        HttpClient.Version version,
+        Duration idleTimeout,
+        Duration keepAliveInterval) {
+
+    public ConnectionPolicy {
+        if (version == null) {
+            throw new IllegalArgumentException("version must not be null");
+        }
+        if (idleTimeout == null || idleTimeout.isZero() || idleTimeout.isNegative()) {
+            throw new IllegalArgumentException("idleTimeout must be positive");
+        }
+        if (keepAliveInterval != null && (keepAliveInterval.isZero() || keepAliveInterval.isNegative()
+                || keepAliveInterval.compareTo(idleTimeout) >= 0)) {
+            throw new IllegalArgumentException("keepAliveInterval must be positive and shorter than idleTimeout");
+        }
+    }
+
+    public static ConnectionPolicy defaultPolicy() {
+        return new ConnectionPolicy(HttpClient.Version.HTTP_2, Duration.ofSeconds(60), null);
+    }
+
+    public static ConnectionPolicy keepAlive(Duration keepAliveInterval) {
+        return new ConnectionPolicy(HttpClient.Version.HTTP_2, Duration.ofSeconds(60), keepAliveInterval);
+    }
+
+    public boolean keepsAlive() {
+        return keepAliveInterval != null;
+    }
+}
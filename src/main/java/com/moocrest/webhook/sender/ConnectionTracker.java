@@ -0,0 +1,77 @@
+package com.moocrest.webhook.sender;
+
+import com.moocrest.webhook.util.WebhookEndpoint;
+
+import javax.net.ssl.SSLSession;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class ConnectionTracker {
+
+    private static final int MAX_SESSIONS_PER_HOST = 64;
+
+    private final long idleTimeoutNanos;
+    private final Map<String, Host> hosts = new ConcurrentHashMap<>();
+
+    ConnectionTracker(long idleTimeoutNanos) {
+        this.idleTimeoutNanos = idleTimeoutNanos;
+    }
+
+    boolean record(WebhookEndpoint endpoint, URI uri, Optional<SSLSession> session, long now) {
+        Host host = hosts.computeIfAbsent(uri.getAuthority(), authority -> new Host());
+        return host.record(endpoint, session.map(ConnectionTracker::sessionKey).orElse(null), now,
+                idleTimeoutNanos);
+    }
+
+    List<WebhookEndpoint> idleSince(long now, long idleNanos) {
+        List<WebhookEndpoint> idle = new ArrayList<>();
+        for (Host host : hosts.values()) {
+            WebhookEndpoint endpoint = host.idleEndpoint(now, idleNanos);
+            if (endpoint != null) {
+                idle.add(endpoint);
+            }
+        }
+        return idle;
+    }
+
+    private static ByteBuffer sessionKey(SSLSession session) {
+        byte[] id = session.getId();
+        if (id != null && id.length > 0) {
+            return ByteBuffer.wrap(id.clone());
+        }
+        return ByteBuffer.allocate(Long.BYTES).putLong(0, session.getCreationTime());
+    }
+
+    private static final class Host {
+        private final Set<ByteBuffer> sessions = Collections.newSetFromMap(new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteBuffer, Boolean> eldest) {
+                return size() > MAX_SESSIONS_PER_HOST;
+            }
+        });
+        private WebhookEndpoint endpoint;
+        private long lastActivityNanos;
+        private boolean active;
+
+        synchronized boolean record(WebhookEndpoint endpoint, ByteBuffer session, long now, long idleTimeoutNanos) {
+            boolean warm = active && now - lastActivityNanos < idleTimeoutNanos;
+            boolean newSession = session != null && sessions.add(session);
+            this.endpoint = endpoint;
+            this.lastActivityNanos = now;
+            this.active = true;
+            return warm && !newSession;
+        }
+
+        synchronized WebhookEndpoint idleEndpoint(long now, long idleNanos) {
+            return active && now - lastActivityNanos >= idleNanos ? endpoint : null;
+        }
+    }
+}
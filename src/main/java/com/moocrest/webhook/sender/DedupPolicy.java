@@ -0,0 +1,26 @@
+package com.moocrest.webhook.sender;
+
+import java.time.Duration;
+
+public record DedupPolicy(
+        Duration window,
+        int maxKeys,
+        boolean summarize) {
+
+    public DedupPolicy {
+        if (window == null || window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("window must be positive");
+        }
+        if (maxKeys < 1) {
+            throw new IllegalArgumentException("maxKeys must be at least 1");
+        }
+    }
+
+    public DedupPolicy(Duration window) {
+        this(window, 10_000, true);
+    }
+
+    public static DedupPolicy defaultPolicy() {
+        return new DedupPolicy(Duration.ofSeconds(60));
+    }
+}
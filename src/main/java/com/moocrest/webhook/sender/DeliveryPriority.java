@@ -0,0 +1,17 @@
+package com.moocrest.webhook.sender;
+
+public enum DeliveryPriority {
+    CRITICAL(16),
+    NORMAL(4),
+    BULK(1);
+
+    private final int weight;
+
+    DeliveryPriority(int weight) {
+        this.weight = weight;
+    }
+
+    int weight() {
+        return weight;
+    }
+}
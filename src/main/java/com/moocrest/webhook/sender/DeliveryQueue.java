@@ -0,0 +1,264 @@
+package com.moocrest.webhook.sender;
+
+import com.moocrest.webhook.util.WebhookException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+final class DeliveryQueue {
+
+    private final DeliveryQueuePolicy policy;
+    private final Executor executor;
+    private final PriorityLanes<Task> queue = new PriorityLanes<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final int sharedConcurrency;
+    private int inFlight;
+    private int parked;
+    private boolean closed;
+
+    DeliveryQueue(DeliveryQueuePolicy policy, Executor executor) {
+        this.policy = policy;
+        this.executor = executor;
+        this.sharedConcurrency = Math.max(1, policy.maxConcurrency() - policy.maxConcurrency() / 8);
+    }
+
+    CompletableFuture<Boolean> submit(Supplier<CompletableFuture<Boolean>> send) {
+        return submit(DeliveryPriority.NORMAL, send);
+    }
+
+    CompletableFuture<Boolean> submit(DeliveryPriority priority, Supplier<CompletableFuture<Boolean>> send) {
+        Task task = new Task(send, new CompletableFuture<>(), false);
+        Task dropped = null;
+
+        lock.lock();
+        try {
+            while (true) {
+                if (closed) {
+                    return CompletableFuture.failedFuture(WebhookException.clientClosed());
+                }
+                if (canStartImmediately(priority)) {
+                    inFlight++;
+                    break;
+                }
+                if (queue.size() + parked < policy.capacity()) {
+                    queue.add(priority, task);
+                    return task.result();
+                }
+                if (priority != DeliveryPriority.BULK && queue.size(DeliveryPriority.BULK) > 0) {
+                    dropped = evict(DeliveryPriority.BULK);
+                    queue.add(priority, task);
+                    return task.result();
+                }
+                switch (policy.overflowPolicy()) {
+                    case BLOCK -> notFull.await();
+                    case DROP_OLDEST -> {
+                        DeliveryPriority victim = queue.lowestQueued();
+                        if (victim == null || victim.compareTo(priority) < 0) {
+                            return CompletableFuture.completedFuture(false);
+                        }
+                        dropped = evict(victim);
+                        queue.add(priority, task);
+                        return task.result();
+                    }
+                    case DROP_NEWEST -> {
+                        return CompletableFuture.completedFuture(false);
+                    }
+                    case FAIL_FAST -> {
+                        return CompletableFuture.failedFuture(WebhookException.queueFull(policy.capacity()));
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(
+                    new WebhookException("Interrupted while waiting for delivery queue capacity", e));
+        } finally {
+            lock.unlock();
+            if (dropped != null) {
+                dropped.result().complete(false);
+            }
+        }
+
+        start(task);
+        return task.result();
+    }
+
+    CompletableFuture<Boolean> admit(DeliveryPriority priority) {
+        Task dropped = null;
+        lock.lock();
+        try {
+            while (true) {
+                if (closed) {
+                    return CompletableFuture.failedFuture(WebhookException.clientClosed());
+                }
+                if (queue.size() + parked < policy.capacity() || parked == 0 && canStartImmediately(priority)) {
+                    parked++;
+                    return null;
+                }
+                switch (policy.overflowPolicy()) {
+                    case BLOCK -> notFull.await();
+                    case DROP_OLDEST -> {
+                        DeliveryPriority victim = queue.lowestQueued();
+                        if (victim == null || victim.compareTo(priority) < 0) {
+                            return CompletableFuture.completedFuture(false);
+                        }
+                        dropped = evict(victim);
+                        parked++;
+                        return null;
+                    }
+                    case DROP_NEWEST -> {
+                        return CompletableFuture.completedFuture(false);
+                    }
+                    case FAIL_FAST -> {
+                        return CompletableFuture.failedFuture(WebhookException.queueFull(policy.capacity()));
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(
+                    new WebhookException("Interrupted while waiting for delivery queue capacity", e));
+        } finally {
+            lock.unlock();
+            if (dropped != null) {
+                dropped.result().complete(false);
+            }
+        }
+    }
+
+    CompletableFuture<Boolean> submitAdmitted(DeliveryPriority priority, Supplier<CompletableFuture<Boolean>> send) {
+        Task task = new Task(send, new CompletableFuture<>(), true);
+        lock.lock();
+        try {
+            if (closed) {
+                return CompletableFuture.failedFuture(WebhookException.clientClosed());
+            }
+            parked--;
+            if (!canStartImmediately(priority)) {
+                queue.add(priority, task);
+                return task.result();
+            }
+            inFlight++;
+        } finally {
+            lock.unlock();
+        }
+        start(task);
+        return task.result();
+    }
+
+    void release() {
+        lock.lock();
+        try {
+            parked--;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void close() {
+        List<Task> failed = new ArrayList<>();
+        lock.lock();
+        try {
+            closed = true;
+            Task task;
+            while ((task = queue.poll()) != null) {
+                if (task.admitted()) {
+                    parked++;
+                }
+                failed.add(task);
+            }
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        failed.forEach(task -> task.result().completeExceptionally(WebhookException.clientClosed()));
+    }
+
+    int depth() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void start(Task task) {
+        CompletableFuture<Boolean> future;
+        try {
+            future = task.send().get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        future.whenComplete((success, error) -> {
+            onComplete(task);
+            if (error != null) {
+                task.result().completeExceptionally(error);
+            } else {
+                task.result().complete(success);
+            }
+        });
+    }
+
+    private boolean canStartImmediately(DeliveryPriority priority) {
+        if (priority == DeliveryPriority.CRITICAL) {
+            return inFlight < policy.maxConcurrency() && queue.size(DeliveryPriority.CRITICAL) == 0;
+        }
+        return inFlight < sharedConcurrency && queue.isEmpty();
+    }
+
+    private Task evict(DeliveryPriority priority) {
+        Task task = queue.poll(priority);
+        if (task.admitted()) {
+            parked++;
+        }
+        return task;
+    }
+
+    private void onComplete(Task finished) {
+        Task next;
+        lock.lock();
+        try {
+            inFlight--;
+            if (finished.admitted()) {
+                parked++;
+            }
+            if (inFlight < sharedConcurrency) {
+                next = queue.poll();
+            } else {
+                next = queue.poll(DeliveryPriority.CRITICAL);
+            }
+            if (next != null) {
+                inFlight++;
+            }
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        if (next != null) {
+            executor.execute(() -> start(next));
+        }
+    }
+
+    private record Task(Supplier<CompletableFuture<Boolean>> send, CompletableFuture<Boolean> result,
+            boolean admitted) {
+    }
+}
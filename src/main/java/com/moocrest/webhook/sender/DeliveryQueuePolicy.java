@@ -0,0 +1,23 @@
+package com.moocrest.webhook.sender;
+
+public record DeliveryQueuePolicy(
+        int capacity,
+        int maxConcurrency,
+        OverflowPolicy overflowPolicy) {
+
+    public DeliveryQueuePolicy {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative");
+        }
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1");
+        }
+        if (overflowPolicy == null) {
+            throw new IllegalArgumentException("overflowPolicy must not be null");
+        }
+    }
+
+    public static DeliveryQueuePolicy defaultPolicy() {
+        return new DeliveryQueuePolicy(10_000, 256, OverflowPolicy.FAIL_FAST);
+    }
+}
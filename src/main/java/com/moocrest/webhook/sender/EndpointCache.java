@@ -0,0 +1,46 @@
+package com.moocrest.webhook.sender;
+
+import com.moocrest.webhook.util.WebhookEndpoint;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+final class EndpointCache {
+
+    private final Map<String, WebhookEndpoint> entries;
+
+    EndpointCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, WebhookEndpoint> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    WebhookEndpoint get(String webhookUrl) {
+        synchronized (entries) {
+            WebhookEndpoint cached = entries.get(webhookUrl);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        WebhookEndpoint endpoint = WebhookEndpoint.parse(webhookUrl);
+        synchronized (entries) {
+            WebhookEndpoint raced = entries.putIfAbsent(webhookUrl, endpoint);
+            return raced != null ? raced : endpoint;
+        }
+    }
+
+    void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.moocrest.webhook.sender;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+final class EndpointSequencer {
+
+    private final ScheduledExecutorService scheduler;
+    private final RetryScheduler retryScheduler;
+    private final DeliveryPriority priority;
+    private final IntSupplier quota;
+    private final int pipelineDepth;
+    private final Runnable onIdle;
+    private final PriorityQueue<Entry> pending = new PriorityQueue<>(Comparator.comparingLong(Entry::sequence));
+
+    private long nextSequence;
+    private CompletableFuture<Void> lastDispatch = CompletableFuture.completedFuture(null);
+    private int inFlight;
+    private boolean held;
+    private long heldUntilNanos;
+    private Throwable closed;
+
+    EndpointSequencer(ScheduledExecutorService scheduler, RetryScheduler retryScheduler, DeliveryPriority priority,
+            IntSupplier quota, int pipelineDepth, Runnable onIdle) {
+        this.scheduler = scheduler;
+        this.retryScheduler = retryScheduler;
+        this.priority = priority;
+        this.quota = quota;
+        this.pipelineDepth = pipelineDepth;
+        this.onIdle = onIdle;
+    }
+
+    DeliveryPriority priority() {
+        return priority;
+    }
+
+    synchronized void enqueue(Sender sender, CompletableFuture<Boolean> result) {
+        pending.add(new Entry(nextSequence++, sender, result));
+    }
+
+    synchronized boolean isIdle() {
+        return pending.isEmpty() && inFlight == 0 && !held;
+    }
+
+    synchronized int inFlight() {
+        return inFlight;
+    }
+
+    synchronized int pending() {
+        return pending.size();
+    }
+
+    void pump() {
+        List<Entry> ready = new ArrayList<>();
+        synchronized (this) {
+            if (held || closed != null) {
+                return;
+            }
+            int remaining = quota.getAsInt();
+            int available = Math.min(pipelineDepth - inFlight, inFlight == 0 ? Math.max(1, remaining) : remaining);
+            while (available-- > 0 && !pending.isEmpty()) {
+                Entry entry = pending.poll();
+                entry.turn = lastDispatch;
+                entry.dispatched = new CompletableFuture<>();
+                lastDispatch = entry.dispatched;
+                ready.add(entry);
+                inFlight++;
+            }
+        }
+        ready.forEach(this::start);
+    }
+
+    private void start(Entry entry) {
+        int attempt = ++entry.attempts;
+        CompletableFuture<Void> dispatched = entry.dispatched;
+        CompletableFuture<Boolean> future;
+        try {
+            future = entry.sender.send(attempt, entry.turn, dispatched);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((delivered, error) -> {
+            dispatched.complete(null);
+            finish(entry, delivered, error);
+        });
+    }
+
+    private void finish(Entry entry, Boolean delivered, Throwable error) {
+        if (error != null) {
+            Throwable cause = RetryScheduler.unwrap(error);
+            if (retryScheduler.shouldRetry(cause, entry.attempts)) {
+                hold(entry, retryScheduler.nextDelayNanos(cause, entry.attempts),
+                        retryScheduler.failure(cause, entry.attempts));
+                return;
+            }
+            entry.result.completeExceptionally(retryScheduler.failure(cause, entry.attempts));
+        } else {
+            entry.result.complete(delivered);
+        }
+        synchronized (this) {
+            inFlight--;
+        }
+        pump();
+        if (isIdle()) {
+            onIdle.run();
+        }
+    }
+
+    void close(Throwable failure) {
+        List<Entry> failed = new ArrayList<>();
+        synchronized (this) {
+            if (closed == null) {
+                closed = failure;
+            }
+            held = false;
+            while (!pending.isEmpty()) {
+                failed.add(pending.poll());
+            }
+        }
+        failed.forEach(entry -> entry.result.completeExceptionally(failure));
+    }
+
+    private void hold(Entry entry, long delayNanos, Throwable failure) {
+        Throwable rejected;
+        synchronized (this) {
+            inFlight--;
+            rejected = closed;
+            if (rejected == null) {
+                pending.add(entry);
+                long until = System.nanoTime() + delayNanos;
+                if (!held || until - heldUntilNanos > 0) {
+                    heldUntilNanos = until;
+                }
+                held = true;
+            }
+        }
+        if (rejected != null) {
+            entry.result.completeExceptionally(rejected);
+            return;
+        }
+        try {
+            scheduler.schedule(this::resume, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            failure.addSuppressed(e);
+            close(failure);
+        }
+    }
+
+    private void resume() {
+        synchronized (this) {
+            if (!held || System.nanoTime() - heldUntilNanos < 0) {
+                return;
+            }
+            held = false;
+        }
+        pump();
+    }
+
+    interface Sender {
+        CompletableFuture<Boolean> send(int attempt, CompletableFuture<Void> turn, CompletableFuture<Void> dispatched);
+    }
+
+    private static final class Entry {
+        private final long sequence;
+        private final Sender sender;
+        private final CompletableFuture<Boolean> result;
+        private int attempts;
+        private CompletableFuture<Void> turn;
+        private CompletableFuture<Void> dispatched;
+
+        private Entry(long sequence, Sender sender, CompletableFuture<Boolean> result) {
+            this.sequence = sequence;
+            this.sender = sender;
+            this.result = result;
+        }
+
+        private long sequence() {
+            return sequence;
+        }
+    }
+}
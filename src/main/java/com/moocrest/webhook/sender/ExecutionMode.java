@@ -0,0 +1,10 @@
+package com.moocrest.webhook.sender;
+
+public enum ExecutionMode {
+    ASYNC,
+    VIRTUAL_THREADS;
+
+    public static boolean virtualThreadsSupported() {
+        return VirtualThreads.isSupported();
+    }
+}
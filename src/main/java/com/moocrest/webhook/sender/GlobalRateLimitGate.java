@@ -0,0 +1,121 @@
+package com.moocrest.webhook.sender;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class GlobalRateLimitGate {
+
+    private static final CompletableFuture<Void> OPEN = CompletableFuture.completedFuture(null);
+
+    private final ScheduledExecutorService scheduler;
+    private final long probeTimeoutNanos;
+    private final Queue<CompletableFuture<Void>> waiters = new ConcurrentLinkedQueue<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong resumeAtNanos = new AtomicLong();
+    private final AtomicBoolean probeInFlight = new AtomicBoolean();
+    private volatile boolean limited;
+    private volatile long limitedSinceNanos;
+    private volatile Throwable closed;
+
+    GlobalRateLimitGate(ScheduledExecutorService scheduler, long probeTimeoutNanos) {
+        this.scheduler = scheduler;
+        this.probeTimeoutNanos = probeTimeoutNanos;
+    }
+
+    CompletableFuture<Void> acquire(long now) {
+        if (!limited) {
+            return OPEN;
+        }
+        if (now - resumeAtNanos.get() >= 0 && waiters.isEmpty() && probeInFlight.compareAndSet(false, true)) {
+            scheduleProbeTimeout(generation.get());
+            return OPEN;
+        }
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        waiters.add(waiter);
+        if (closed != null) {
+            failAll(closed);
+        } else if (!limited) {
+            releaseAll();
+        } else if (now - resumeAtNanos.get() >= 0) {
+            releaseProbe(generation.get());
+        }
+        return waiter;
+    }
+
+    void onGlobalLimit(long retryAfterNanos, long now) {
+        long resumeAt = now + retryAfterNanos;
+        long extended = resumeAtNanos.accumulateAndGet(resumeAt, (current, next) ->
+                limited && current - next > 0 ? current : next);
+        if (!limited) {
+            limitedSinceNanos = now;
+            limited = true;
+        }
+        long currentGeneration = generation.incrementAndGet();
+        probeInFlight.set(false);
+        scheduler.schedule(() -> releaseProbe(currentGeneration), Math.max(0, extended - now), TimeUnit.NANOSECONDS);
+    }
+
+    void onCleared(long requestStartedAt) {
+        if (!limited || requestStartedAt - limitedSinceNanos < 0) {
+            return;
+        }
+        limited = false;
+        generation.incrementAndGet();
+        probeInFlight.set(false);
+        releaseAll();
+    }
+
+    void close(Throwable failure) {
+        closed = failure;
+        failAll(failure);
+    }
+
+    boolean isLimited() {
+        return limited;
+    }
+
+    int waiting() {
+        return waiters.size();
+    }
+
+    private void releaseProbe(long expectedGeneration) {
+        if (!limited || generation.get() != expectedGeneration || !probeInFlight.compareAndSet(false, true)) {
+            return;
+        }
+        CompletableFuture<Void> probe = waiters.poll();
+        if (probe == null) {
+            probeInFlight.set(false);
+            return;
+        }
+        scheduleProbeTimeout(expectedGeneration);
+        probe.complete(null);
+    }
+
+    private void scheduleProbeTimeout(long expectedGeneration) {
+        scheduler.schedule(() -> {
+            if (limited && generation.get() == expectedGeneration) {
+                probeInFlight.set(false);
+                releaseProbe(expectedGeneration);
+            }
+        }, probeTimeoutNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void failAll(Throwable failure) {
+        CompletableFuture<Void> waiter;
+        while ((waiter = waiters.poll()) != null) {
+            waiter.completeExceptionally(failure);
+        }
+    }
+
+    private void releaseAll() {
+        CompletableFuture<Void> waiter;
+        while ((waiter = waiters.poll()) != null) {
+            waiter.complete(null);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.moocrest.webhook.sender;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.moocrest.webhook.model.WebhookMessage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+final class JacksonWebhookSerializer implements WebhookSerializer {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter messageWriter;
+
+    JacksonWebhookSerializer(ObjectMapper objectMapper) {
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper");
+        this.messageWriter = objectMapper.writerFor(WebhookMessage.class);
+    }
+
+    static ObjectMapper defaultObjectMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Override
+    public void write(WebhookMessage message, OutputStream output) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            messageWriter.writeValue(generator, message);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.moocrest.webhook.sender;
+
+import com.moocrest.webhook.metrics.WebhookMetrics;
+import com.moocrest.webhook.model.WebhookMessage;
+import com.moocrest.webhook.util.WebhookException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+final class JsonPayloadWriter {
+
+    private final WebhookSerializer serializer;
+    private final PayloadPool pool;
+    private final WebhookMetrics metrics;
+
+    JsonPayloadWriter(WebhookSerializer serializer, PayloadPool pool) {
+        this(serializer, pool, WebhookMetrics.noop());
+    }
+
+    JsonPayloadWriter(WebhookSerializer serializer, PayloadPool pool, WebhookMetrics metrics) {
+        this.serializer = serializer;
+        this.pool = pool;
+        this.metrics = metrics;
+    }
+
+    PayloadBuffer write(WebhookMessage message) {
+        long start = System.nanoTime();
+        PayloadBuffer buffer = pool.acquire();
+        try {
+            serializer.write(message, buffer);
+        } catch (IOException | RuntimeException e) {
+            buffer.release();
+            throw WebhookException.serializationError(e);
+        }
+        buffer.attach(message.attachments());
+        metrics.serialized(System.nanoTime() - start);
+        return buffer;
+    }
+
+    PayloadBuffer write(PreparedWebhookMessage prepared, Map<String, String> values) {
+        long start = System.nanoTime();
+        PayloadBuffer buffer = pool.acquire();
+        try {
+            prepared.writeTo(buffer, values);
+        } catch (IOException e) {
+            buffer.release();
+            throw WebhookException.serializationError(e);
+        }
+        metrics.serialized(System.nanoTime() - start);
+        return buffer;
+    }
+
+    PayloadBuffer empty() {
+        return pool.acquire();
+    }
+
+    PreparedWebhookMessage prepare(WebhookMessage template) {
+        if (template.attachments() != null) {
+            throw new IllegalArgumentException("Prepared messages cannot carry attachments");
+        }
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        try {
+            serializer.write(template, json);
+            return PreparedWebhookMessage.parse(template, json.toByteArray());
+        } catch (IOException e) {
+            throw WebhookException.serializationError(e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.moocrest.webhook.sender;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+final class JsonStrings {
+
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes();
+
+    private JsonStrings() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    static void writeEscaped(OutputStream out, String value) throws IOException {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                writeAscii(out, c);
+            } else if (c < 0x800) {
+                out.write(0xC0 | (c >> 6));
+                out.write(0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                writeUnicodeEscape(out, c);
+            } else {
+                out.write(0xE0 | (c >> 12));
+                out.write(0x80 | ((c >> 6) & 0x3F));
+                out.write(0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    private static void writeAscii(OutputStream out, char c) throws IOException {
+        switch (c) {
+            case '"' -> {
+                out.write('\\');
+                out.write('"');
+            }
+            case '\\' -> {
+                out.write('\\');
+                out.write('\\');
+            }
+            case '\b' -> {
+                out.write('\\');
+                out.write('b');
+            }
+            case '\f' -> {
+                out.write('\\');
+                out.write('f');
+            }
+            case '\n' -> {
+                out.write('\\');
+                out.write('n');
+            }
+            case '\r' -> {
+                out.write('\\');
+                out.write('r');
+            }
+            case '\t' -> {
+                out.write('\\');
+                out.write('t');
+            }
+            default -> {
+                if (c < 0x20) {
+                    writeUnicodeEscape(out, c);
+                } else {
+                    out.write(c);
+                }
+            }
+        }
+    }
+
+    private static void writeUnicodeEscape(OutputStream out, char c) throws IOException {
+        out.write('\\');
+        out.write('u');
+        out.write(HEX[(c >> 12) & 0xF]);
+        out.write(HEX[(c >> 8) & 0xF]);
+        out.write(HEX[(c >> 4) & 0xF]);
+        out.write(HEX[c & 0xF]);
+    }
+}
@@ -0,0 +1,98 @@
+package com.moocrest.webhook.sender;
+
+import com.moocrest.webhook.model.WebhookEmbed;
+import com.moocrest.webhook.model.WebhookMessage;
+import com.moocrest.webhook.util.DiscordLimits;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+final class MessageCoalescer {
+
+    private static final String CONTENT_SEPARATOR = "\n";
+
+    private MessageCoalescer() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    static <T> List<List<T>> group(List<T> items, Function<T, WebhookMessage> messageOf) {
+        List<List<T>> groups = new ArrayList<>();
+        List<T> current = new ArrayList<>();
+        WebhookMessage head = null;
+        int contentLength = 0;
+        int embedCount = 0;
+        int embedLength = 0;
+
+        for (T item : items) {
+            WebhookMessage message = messageOf.apply(item);
+            int messageContent = DiscordLimits.contentLength(message.content());
+            int messageEmbeds = message.embeds() != null ? message.embeds().size() : 0;
+            int messageEmbedLength = DiscordLimits.embedsLength(message.embeds());
+            int separator = contentLength > 0 && messageContent > 0 ? CONTENT_SEPARATOR.length() : 0;
+
+            boolean fits = head != null
+                    && sameIdentity(head, message)
+                    && contentLength + separator + messageContent <= DiscordLimits.MAX_CONTENT_LENGTH
+                    && embedCount + messageEmbeds <= DiscordLimits.MAX_EMBEDS
+                    && embedLength + messageEmbedLength <= DiscordLimits.MAX_TOTAL_EMBED_LENGTH;
+
+            if (!fits) {
+                if (!current.isEmpty()) {
+                    groups.add(current);
+                    current = new ArrayList<>();
+                }
+                head = message;
+                contentLength = 0;
+                embedCount = 0;
+                embedLength = 0;
+                separator = 0;
+            }
+
+            current.add(item);
+            contentLength += separator + messageContent;
+            embedCount += messageEmbeds;
+            embedLength += messageEmbedLength;
+        }
+
+        if (!current.isEmpty()) {
+            groups.add(current);
+        }
+        return groups;
+    }
+
+    static WebhookMessage merge(List<WebhookMessage> messages) {
+        WebhookMessage first = messages.get(0);
+        if (messages.size() == 1) {
+            return first;
+        }
+
+        StringBuilder content = new StringBuilder();
+        List<WebhookEmbed> embeds = new ArrayList<>();
+        for (WebhookMessage message : messages) {
+            if (message.content() != null && !message.content().isEmpty()) {
+                if (content.length() > 0) {
+                    content.append(CONTENT_SEPARATOR);
+                }
+                content.append(message.content());
+            }
+            if (message.embeds() != null) {
+                embeds.addAll(message.embeds());
+            }
+        }
+
+        return first.toBuilder()
+                .content(content.length() > 0 ? content.toString() : null)
+                .embeds(embeds)
+                .build();
+    }
+
+    private static boolean sameIdentity(WebhookMessage first, WebhookMessage second) {
+        return first.attachments() == null && second.attachments() == null
+                && Objects.equals(first.username(), second.username())
+                && Objects.equals(first.avatarUrl(), second.avatarUrl())
+                && Objects.equals(first.threadName(), second.threadName())
+                && Objects.equals(first.flags(), second.flags());
+    }
+}
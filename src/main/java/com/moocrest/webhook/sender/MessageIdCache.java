@@ -0,0 +1,54 @@
+package com.moocrest.webhook.sender;
+
+import com.moocrest.webhook.util.WebhookEndpoint;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+final class MessageIdCache {
+
+    private static final CompletableFuture<String> NONE = CompletableFuture.completedFuture(null);
+
+    private final Map<Key, CompletableFuture<String>> entries;
+
+    MessageIdCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CompletableFuture<String>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    String get(WebhookEndpoint endpoint, String key) {
+        CompletableFuture<String> messageId;
+        synchronized (entries) {
+            messageId = entries.get(new Key(endpoint, key));
+        }
+        return messageId != null && !messageId.isCompletedExceptionally() ? messageId.getNow(null) : null;
+    }
+
+    CompletableFuture<String> swap(WebhookEndpoint endpoint, String key, CompletableFuture<String> next) {
+        CompletableFuture<String> previous;
+        synchronized (entries) {
+            previous = entries.put(new Key(endpoint, key), next);
+        }
+        return previous != null ? previous : NONE;
+    }
+
+    void remove(WebhookEndpoint endpoint, String key, CompletableFuture<String> expected) {
+        synchronized (entries) {
+            entries.remove(new Key(endpoint, key), expected);
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record Key(WebhookEndpoint endpoint, String key) {
+    }
+}
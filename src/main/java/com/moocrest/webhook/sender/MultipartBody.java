@@ -0,0 +1,87 @@
+package com.moocrest.webhook.sender;
+
+import com.moocrest.webhook.model.WebhookAttachment;
+import com.moocrest.webhook.util.DiscordLimits;
+import com.moocrest.webhook.util.WebhookException;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+final class MultipartBody {
+
+    private static final String CRLF = "\r\n";
+
+    private final String boundary;
+    private final HttpRequest.BodyPublisher publisher;
+
+    private MultipartBody(String boundary, HttpRequest.BodyPublisher publisher) {
+        this.boundary = boundary;
+        this.publisher = publisher;
+    }
+
+    static MultipartBody of(HttpRequest.BodyPublisher json, List<WebhookAttachment> attachments, long maxUploadSize) {
+        if (attachments.size() > DiscordLimits.MAX_ATTACHMENTS) {
+            throw WebhookException.tooManyAttachments(attachments.size(), DiscordLimits.MAX_ATTACHMENTS);
+        }
+        long total = 0;
+        for (WebhookAttachment attachment : attachments) {
+            try {
+                total += Files.size(attachment.path());
+            } catch (IOException e) {
+                throw WebhookException.attachmentUnreadable(attachment.path(), e);
+            }
+        }
+        if (total > maxUploadSize) {
+            throw WebhookException.attachmentsTooLarge(total, maxUploadSize);
+        }
+
+        String boundary = "crest-" + Long.toHexString(ThreadLocalRandom.current().nextLong())
+                + Long.toHexString(ThreadLocalRandom.current().nextLong());
+        List<HttpRequest.BodyPublisher> parts = new ArrayList<>(attachments.size() * 3 + 3);
+        parts.add(text("--" + boundary + CRLF
+                + "Content-Disposition: form-data; name=\"payload_json\"" + CRLF
+                + "Content-Type: application/json" + CRLF + CRLF));
+        parts.add(json);
+        for (WebhookAttachment attachment : attachments) {
+            parts.add(text(CRLF + "--" + boundary + CRLF
+                    + "Content-Disposition: form-data; name=\"files[" + attachment.id() + "]\"; filename=\""
+                    + quote(attachment.filename()) + "\"" + CRLF
+                    + "Content-Type: " + attachment.contentType() + CRLF + CRLF));
+            try {
+                parts.add(HttpRequest.BodyPublishers.ofFile(attachment.path()));
+            } catch (FileNotFoundException e) {
+                throw WebhookException.attachmentUnreadable(attachment.path(), e);
+            }
+        }
+        parts.add(text(CRLF + "--" + boundary + "--" + CRLF));
+        return new MultipartBody(boundary,
+                HttpRequest.BodyPublishers.concat(parts.toArray(HttpRequest.BodyPublisher[]::new)));
+    }
+
+    String contentType() {
+        return "multipart/form-data; boundary=" + boundary;
+    }
+
+    HttpRequest.BodyPublisher publisher() {
+        return publisher;
+    }
+
+    private static HttpRequest.BodyPublisher text(String value) {
+        return HttpRequest.BodyPublishers.ofByteArray(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String quote(String filename) {
+        StringBuilder quoted = new StringBuilder(filename.length());
+        for (int i = 0; i < filename.length(); i++) {
+            char c = filename.charAt(i);
+            quoted.append(c == '"' || c == '\\' || c < ' ' ? '_' : c);
+        }
+        return quoted.toString();
+    }
+}
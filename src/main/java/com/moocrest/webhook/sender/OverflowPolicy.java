@@ -0,0 +1,8 @@
+package com.moocrest.webhook.sender;
+
+public enum OverflowPolicy {
+    BLOCK,
+    DROP_OLDEST,
+    DROP_NEWEST,
+    FAIL_FAST
+}
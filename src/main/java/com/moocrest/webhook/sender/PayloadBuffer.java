@@ -0,0 +1,100 @@
+package com.moocrest.webhook.sender;
+
+import com.moocrest.webhook.model.WebhookAttachment;
+
+import java.io.OutputStream;
+import java.net.http.HttpRequest;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class PayloadBuffer extends OutputStream {
+
+    private final PayloadPool pool;
+    private final AtomicInteger references = new AtomicInteger(1);
+    private byte[] bytes;
+    private int length;
+    private List<WebhookAttachment> attachments = List.of();
+    private volatile boolean recyclable;
+
+    PayloadBuffer(PayloadPool pool, int initialCapacity) {
+        this.pool = pool;
+        this.bytes = new byte[initialCapacity];
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(length + 1);
+        bytes[length++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] source, int offset, int count) {
+        ensureCapacity(length + count);
+        System.arraycopy(source, offset, bytes, length, count);
+        length += count;
+    }
+
+    int length() {
+        return length;
+    }
+
+    int capacity() {
+        return bytes.length;
+    }
+
+    byte[] array() {
+        return bytes;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(bytes, length);
+    }
+
+    HttpRequest.BodyPublisher bodyPublisher() {
+        return new ByteArrayBodyPublisher(bytes, 0, length);
+    }
+
+    List<WebhookAttachment> attachments() {
+        return attachments;
+    }
+
+    void attach(List<WebhookAttachment> attachments) {
+        this.attachments = attachments != null ? attachments : List.of();
+    }
+
+    void markNotRecyclable() {
+        recyclable = false;
+    }
+
+    PayloadBuffer retain() {
+        references.incrementAndGet();
+        return this;
+    }
+
+    void release() {
+        int current;
+        do {
+            current = references.get();
+            if (current <= 0) {
+                return;
+            }
+        } while (!references.compareAndSet(current, current - 1));
+        if (current == 1 && recyclable && pool != null) {
+            pool.release(this);
+        }
+    }
+
+    void reset() {
+        length = 0;
+        attachments = List.of();
+        recyclable = true;
+        references.set(1);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length * 2));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.moocrest.webhook.sender;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+final class PayloadPool {
+
+    private static final int INITIAL_CAPACITY = 2048;
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private final BlockingQueue<PayloadBuffer> free;
+
+    PayloadPool(int maxPooled) {
+        this.free = new ArrayBlockingQueue<>(Math.max(1, maxPooled));
+    }
+
+    PayloadBuffer acquire() {
+        PayloadBuffer buffer = free.poll();
+        if (buffer == null) {
+            buffer = new PayloadBuffer(this, INITIAL_CAPACITY);
+        }
+        buffer.reset();
+        return buffer;
+    }
+
+    void release(PayloadBuffer buffer) {
+        if (buffer.capacity() <= MAX_RETAINED_CAPACITY) {
+            free.offer(buffer);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.moocrest.webhook.sender;
+
+import com.moocrest.webhook.model.WebhookMessage;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+final class PreparedMessageCache {
+
+    private final Map<WebhookMessage, PreparedWebhookMessage> entries;
+
+    PreparedMessageCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<WebhookMessage, PreparedWebhookMessage> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    PreparedWebhookMessage get(WebhookMessage template, Function<WebhookMessage, PreparedWebhookMessage> prepare) {
+        synchronized (entries) {
+            PreparedWebhookMessage cached = entries.get(template);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        PreparedWebhookMessage prepared = prepare.apply(template);
+        synchronized (entries) {
+            PreparedWebhookMessage raced = entries.putIfAbsent(template, prepared);
+            return raced != null ? raced : prepared;
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
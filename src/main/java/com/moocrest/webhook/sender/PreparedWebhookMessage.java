@@ -0,0 +1,133 @@
+package com.moocrest.webhook.sender;
+
+import com.moocrest.webhook.model.WebhookMessage;
+import com.moocrest.webhook.util.DiscordLimits;
+import com.moocrest.webhook.util.LimitViolation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public final class PreparedWebhookMessage {
+
+    private static final byte OPEN = '{';
+    private static final byte CLOSE = '}';
+
+    private final WebhookMessage template;
+    private final byte[] json;
+    private final int[] slotStarts;
+    private final int[] slotEnds;
+    private final String[] slotNames;
+    private final Set<String> names;
+
+    private PreparedWebhookMessage(WebhookMessage template, byte[] json, List<int[]> slots, List<String> slotNames) {
+        this.template = template;
+        this.json = json;
+        this.slotStarts = new int[slots.size()];
+        this.slotEnds = new int[slots.size()];
+        for (int i = 0; i < slots.size(); i++) {
+            slotStarts[i] = slots.get(i)[0];
+            slotEnds[i] = slots.get(i)[1];
+        }
+        this.slotNames = slotNames.toArray(new String[0]);
+        this.names = Collections.unmodifiableSet(new LinkedHashSet<>(slotNames));
+    }
+
+    static PreparedWebhookMessage parse(WebhookMessage template, byte[] json) {
+        List<int[]> slots = new ArrayList<>();
+        List<String> slotNames = new ArrayList<>();
+        int i = 0;
+        while (i + 3 < json.length) {
+            if (json[i] == OPEN && json[i + 1] == OPEN) {
+                int end = findSlotEnd(json, i + 2);
+                if (end > i + 2) {
+                    slots.add(new int[] {i, end + 2});
+                    slotNames.add(new String(json, i + 2, end - i - 2));
+                    i = end + 2;
+                    continue;
+                }
+            }
+            i++;
+        }
+        return new PreparedWebhookMessage(template, json, slots, slotNames);
+    }
+
+    public WebhookMessage template() {
+        return template;
+    }
+
+    public Set<String> slotNames() {
+        return names;
+    }
+
+    public int size() {
+        return json.length;
+    }
+
+    LimitViolation check(Map<String, String> values) {
+        if (values.isEmpty() || slotNames.length == 0) {
+            return DiscordLimits.check(template);
+        }
+        return DiscordLimits.check(template, text -> splicedLength(text, values));
+    }
+
+    void writeTo(PayloadBuffer out, Map<String, String> values) throws IOException {
+        int position = 0;
+        for (int i = 0; i < slotNames.length; i++) {
+            String value = values.get(slotNames[i]);
+            if (value == null) {
+                continue;
+            }
+            out.write(json, position, slotStarts[i] - position);
+            JsonStrings.writeEscaped(out, value);
+            position = slotEnds[i];
+        }
+        out.write(json, position, json.length - position);
+    }
+
+    private static int findSlotEnd(byte[] json, int from) {
+        for (int i = from; i + 1 < json.length; i++) {
+            byte b = json[i];
+            if (b == CLOSE && json[i + 1] == CLOSE) {
+                return i;
+            }
+            if (!isNameCharacter(b)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static int splicedLength(String text, Map<String, String> values) {
+        if (text == null) {
+            return 0;
+        }
+        int length = text.length();
+        int start = text.indexOf("{{");
+        while (start >= 0) {
+            int end = start + 2;
+            while (end < text.length() && isNameCharacter(text.charAt(end))) {
+                end++;
+            }
+            if (end > start + 2 && text.startsWith("}}", end)) {
+                String value = values.get(text.substring(start + 2, end));
+                if (value != null) {
+                    length += value.length() - (end + 2 - start);
+                }
+                start = text.indexOf("{{", end + 2);
+            } else {
+                start = text.indexOf("{{", start + 1);
+            }
+        }
+        return length;
+    }
+
+    private static boolean isNameCharacter(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '_' || c == '-' || c == '.';
+    }
+}
@@ -0,0 +1,74 @@
+package com.moocrest.webhook.sender;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+final class PriorityLanes<T> {
+
+    private static final DeliveryPriority[] PRIORITIES = DeliveryPriority.values();
+
+    private final List<ArrayDeque<T>> lanes = new ArrayList<>(PRIORITIES.length);
+    private final int[] credits = new int[PRIORITIES.length];
+    private int size;
+
+    PriorityLanes() {
+        for (DeliveryPriority priority : PRIORITIES) {
+            lanes.add(new ArrayDeque<>());
+            credits[priority.ordinal()] = priority.weight();
+        }
+    }
+
+    void add(DeliveryPriority priority, T item) {
+        lanes.get(priority.ordinal()).add(item);
+        size++;
+    }
+
+    T poll() {
+        if (size == 0) {
+            return null;
+        }
+        while (true) {
+            for (DeliveryPriority priority : PRIORITIES) {
+                ArrayDeque<T> lane = lanes.get(priority.ordinal());
+                if (!lane.isEmpty() && credits[priority.ordinal()] > 0) {
+                    credits[priority.ordinal()]--;
+                    size--;
+                    return lane.poll();
+                }
+            }
+            for (DeliveryPriority priority : PRIORITIES) {
+                credits[priority.ordinal()] = priority.weight();
+            }
+        }
+    }
+
+    T poll(DeliveryPriority priority) {
+        T item = lanes.get(priority.ordinal()).poll();
+        if (item != null) {
+            size--;
+        }
+        return item;
+    }
+
+    DeliveryPriority lowestQueued() {
+        for (int i = PRIORITIES.length - 1; i >= 0; i--) {
+            if (!lanes.get(i).isEmpty()) {
+                return PRIORITIES[i];
+            }
+        }
+        return null;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int size(DeliveryPriority priority) {
+        return lanes.get(priority.ordinal()).size();
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,175 @@
+package com.moocrest.webhook.sender;
+
+import java.net.http.HttpHeaders;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+final class RateLimitBucket {
+
+    private static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    private static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    private static final String RESET_AFTER_HEADER = "X-RateLimit-Reset-After";
+    private static final String BUCKET_HEADER = "X-RateLimit-Bucket";
+
+    private final ScheduledExecutorService scheduler;
+    private final PriorityLanes<CompletableFuture<Void>> waiters = new PriorityLanes<>();
+
+    private String bucketId;
+    private int limit;
+    private int remaining;
+    private long windowNanos;
+    private long resetAtNanos;
+    private boolean drainScheduled;
+    private Throwable closed;
+
+    RateLimitBucket(ScheduledExecutorService scheduler, int initialLimit, long initialWindowNanos, long now) {
+        this.scheduler = scheduler;
+        this.limit = initialLimit;
+        this.remaining = initialLimit;
+        this.windowNanos = initialWindowNanos;
+        this.resetAtNanos = now;
+    }
+
+    synchronized CompletableFuture<Void> acquire(long now, DeliveryPriority priority) {
+        if (closed != null) {
+            return CompletableFuture.failedFuture(closed);
+        }
+        if (waiters.isEmpty() && tryTake(now)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        waiters.add(priority, waiter);
+        scheduleDrain(now);
+        return waiter;
+    }
+
+    void update(HttpHeaders headers, long now) {
+        List<CompletableFuture<Void>> released;
+        synchronized (this) {
+            headers.firstValue(BUCKET_HEADER).ifPresent(id -> bucketId = id);
+            headers.firstValue(LIMIT_HEADER).map(RateLimitBucket::parseInt).ifPresent(value -> {
+                if (value > 0) {
+                    limit = value;
+                }
+            });
+
+            Integer serverRemaining = headers.firstValue(REMAINING_HEADER).map(RateLimitBucket::parseInt).orElse(null);
+            Long resetAfter = headers.firstValue(RESET_AFTER_HEADER).map(RateLimitHeaders::parseSeconds).orElse(null);
+
+            if (serverRemaining != null && resetAfter != null) {
+                boolean windowExpired = now - resetAtNanos >= 0;
+                remaining = windowExpired ? serverRemaining : Math.min(remaining, serverRemaining);
+                resetAtNanos = now + resetAfter;
+                if (serverRemaining == limit - 1) {
+                    windowNanos = resetAfter;
+                }
+            }
+
+            released = releaseReady(now);
+        }
+        released.forEach(waiter -> waiter.complete(null));
+    }
+
+    void close(Throwable failure) {
+        List<CompletableFuture<Void>> failed = new ArrayList<>();
+        synchronized (this) {
+            closed = failure;
+            while (!waiters.isEmpty()) {
+                failed.add(waiters.poll());
+            }
+        }
+        failed.forEach(waiter -> waiter.completeExceptionally(failure));
+    }
+
+    void moveWaitersTo(RateLimitBucket target) {
+        List<CompletableFuture<Void>> moved = new ArrayList<>();
+        List<DeliveryPriority> priorities = new ArrayList<>();
+        synchronized (this) {
+            for (DeliveryPriority priority : DeliveryPriority.values()) {
+                CompletableFuture<Void> waiter;
+                while ((waiter = waiters.poll(priority)) != null) {
+                    moved.add(waiter);
+                    priorities.add(priority);
+                }
+            }
+        }
+        long now = System.nanoTime();
+        for (int i = 0; i < moved.size(); i++) {
+            CompletableFuture<Void> waiter = moved.get(i);
+            target.acquire(now, priorities.get(i)).whenComplete((ignored, error) -> {
+                if (error != null) {
+                    waiter.completeExceptionally(error);
+                } else {
+                    waiter.complete(null);
+                }
+            });
+        }
+    }
+
+    synchronized int remaining(long now) {
+        if (!waiters.isEmpty()) {
+            return 0;
+        }
+        return now - resetAtNanos >= 0 ? limit : remaining;
+    }
+
+    synchronized String bucketId() {
+        return bucketId;
+    }
+
+    synchronized boolean isIdle(long now) {
+        return waiters.isEmpty() && now - resetAtNanos >= 0;
+    }
+
+    private void drain() {
+        List<CompletableFuture<Void>> released;
+        synchronized (this) {
+            drainScheduled = false;
+            released = releaseReady(System.nanoTime());
+        }
+        released.forEach(waiter -> waiter.complete(null));
+    }
+
+    private List<CompletableFuture<Void>> releaseReady(long now) {
+        List<CompletableFuture<Void>> released = new ArrayList<>();
+        while (!waiters.isEmpty() && tryTake(now)) {
+            released.add(waiters.poll());
+        }
+        if (!waiters.isEmpty()) {
+            scheduleDrain(now);
+        }
+        return released;
+    }
+
+    private boolean tryTake(long now) {
+        if (now - resetAtNanos >= 0) {
+            remaining = limit;
+            resetAtNanos = now + windowNanos;
+        }
+        if (remaining <= 0) {
+            return false;
+        }
+        remaining--;
+        return true;
+    }
+
+    private void scheduleDrain(long now) {
+        if (drainScheduled || closed != null) {
+            return;
+        }
+        drainScheduled = true;
+        long delay = Math.max(0, resetAtNanos - now);
+        scheduler.schedule(this::drain, delay, TimeUnit.NANOSECONDS);
+    }
+
+    private static Integer parseInt(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.moocrest.webhook.sender;
+
+import java.net.http.HttpHeaders;
+import java.util.concurrent.TimeUnit;
+
+final class RateLimitHeaders {
+
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
+    private static final String GLOBAL_HEADER = "X-RateLimit-Global";
+    private static final String SCOPE_HEADER = "X-RateLimit-Scope";
+    private static final long DEFAULT_RETRY_AFTER_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private RateLimitHeaders() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    static long retryAfterNanos(HttpHeaders headers) {
+        return headers.firstValue(RETRY_AFTER_HEADER)
+                .map(RateLimitHeaders::parseSeconds)
+                .orElse(DEFAULT_RETRY_AFTER_NANOS);
+    }
+
+    static boolean isGlobal(HttpHeaders headers) {
+        return headers.firstValue(GLOBAL_HEADER).map(value -> "true".equalsIgnoreCase(value.trim())).orElse(false)
+                || headers.firstValue(SCOPE_HEADER).map(value -> "global".equalsIgnoreCase(value.trim())).orElse(false);
+    }
+
+    static long parseSeconds(String value) {
+        try {
+            double seconds = Double.parseDouble(value.trim());
+            if (Double.isNaN(seconds) || seconds < 0) {
+                return DEFAULT_RETRY_AFTER_NANOS;
+            }
+            return (long) Math.min(seconds * TimeUnit.SECONDS.toNanos(1), Long.MAX_VALUE / 2);
+        } catch (NumberFormatException e) {
+            return DEFAULT_RETRY_AFTER_NANOS;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.moocrest.webhook.sender;
+
+import java.time.Duration;
+
+public record RateLimitPolicy(
+        int initialLimit,
+        Duration initialWindow) {
+
+    public RateLimitPolicy {
+        if (initialLimit < 1) {
+            throw new IllegalArgumentException("initialLimit must be at least 1");
+        }
+        if (initialWindow == null || initialWindow.isNegative()) {
+            throw new IllegalArgumentException("initialWindow must not be negative");
+        }
+    }
+
+    public static RateLimitPolicy discordDefaults() {
+        return new RateLimitPolicy(5, Duration.ofSeconds(2));
+    }
+}
@@ -0,0 +1,49 @@
+package com.moocrest.webhook.sender;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+public record RetryPolicy(
+        int maxAttempts,
+        Duration initialDelay,
+        Duration maxDelay,
+        double multiplier,
+        double jitter) {
+
+    public RetryPolicy {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+        if (initialDelay == null || initialDelay.isNegative()) {
+            throw new IllegalArgumentException("initialDelay must not be negative");
+        }
+        if (maxDelay == null || maxDelay.compareTo(initialDelay) < 0) {
+            throw new IllegalArgumentException("maxDelay must not be shorter than initialDelay");
+        }
+        if (multiplier < 1.0) {
+            throw new IllegalArgumentException("multiplier must be at least 1.0");
+        }
+        if (jitter < 0.0 || jitter > 1.0) {
+            throw new IllegalArgumentException("jitter must be between 0.0 and 1.0");
+        }
+    }
+
+    public static RetryPolicy defaultPolicy() {
+        return new RetryPolicy(4, Duration.ofSeconds(1), Duration.ofSeconds(30), 2.0, 0.2);
+    }
+
+    public static RetryPolicy noRetries() {
+        return new RetryPolicy(1, Duration.ZERO, Duration.ZERO, 1.0, 0.0);
+    }
+
+    public static RetryPolicy exponential(int maxAttempts, Duration initialDelay, Duration maxDelay) {
+        return new RetryPolicy(maxAttempts, initialDelay, maxDelay, 2.0, 0.2);
+    }
+
+    public long delayNanos(int failedAttempt) {
+        double base = initialDelay.toNanos() * Math.pow(multiplier, Math.max(0, failedAttempt - 1));
+        double capped = Math.min(base, maxDelay.toNanos());
+        double spread = jitter == 0.0 ? 0.0 : ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+        return Math.max(0L, (long) (capped * (1.0 + spread)));
+    }
+}
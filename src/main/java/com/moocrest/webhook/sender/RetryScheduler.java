@@ -0,0 +1,139 @@
+package com.moocrest.webhook.sender;
+
+import com.moocrest.webhook.util.WebhookException;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+final class RetryScheduler {
+
+    private final ScheduledExecutorService scheduler;
+    private final RetryPolicy policy;
+    private final Map<CompletableFuture<?>, Throwable> waiting = new ConcurrentHashMap<>();
+
+    RetryScheduler(ScheduledExecutorService scheduler, RetryPolicy policy) {
+        this.scheduler = scheduler;
+        this.policy = policy;
+    }
+
+    <T> CompletableFuture<T> execute(IntFunction<CompletableFuture<T>> attempt) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        run(attempt, 1, result);
+        return result;
+    }
+
+    void close() {
+        waiting.forEach((result, failure) -> {
+            if (waiting.remove(result) != null) {
+                result.completeExceptionally(failure);
+            }
+        });
+    }
+
+    private <T> void run(IntFunction<CompletableFuture<T>> attempt, int attemptNumber, CompletableFuture<T> result) {
+        if (attemptNumber > 1 && waiting.remove(result) == null) {
+            return;
+        }
+        CompletableFuture<T> future;
+        try {
+            future = attempt.apply(attemptNumber);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        future.whenComplete((value, error) -> {
+            if (error == null) {
+                result.complete(value);
+                return;
+            }
+
+            Throwable cause = unwrap(error);
+            if (!shouldRetry(cause, attemptNumber)) {
+                result.completeExceptionally(failure(cause, attemptNumber));
+                return;
+            }
+
+            waiting.put(result, failure(cause, attemptNumber));
+            try {
+                scheduler.schedule(() -> run(attempt, attemptNumber + 1, result), nextDelayNanos(cause, attemptNumber),
+                        TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                Throwable failure = waiting.remove(result);
+                if (failure != null) {
+                    failure.addSuppressed(e);
+                    result.completeExceptionally(failure);
+                }
+            }
+        });
+    }
+
+    boolean shouldRetry(Throwable cause, int attemptNumber) {
+        return isRetryable(cause) && attemptNumber < policy.maxAttempts();
+    }
+
+    Throwable failure(Throwable cause, int attemptNumber) {
+        return isRetryable(cause) ? WebhookException.retriesExhausted(attemptNumber, cause) : cause;
+    }
+
+    <T> T executeBlocking(BlockingAttempt<T> attempt) throws InterruptedException {
+        for (int attemptNumber = 1;; attemptNumber++) {
+            try {
+                return attempt.run(attemptNumber);
+            } catch (IOException | RuntimeException e) {
+                Throwable cause = unwrap(e);
+                if (!isRetryable(cause)) {
+                    throw cause instanceof RuntimeException runtime ? runtime : new WebhookException(cause);
+                }
+                if (attemptNumber >= policy.maxAttempts()) {
+                    throw WebhookException.retriesExhausted(attemptNumber, cause);
+                }
+                TimeUnit.NANOSECONDS.sleep(nextDelayNanos(cause, attemptNumber));
+            }
+        }
+    }
+
+    long nextDelayNanos(Throwable cause, int attemptNumber) {
+        long retryAfter = retryAfterNanos(cause);
+        return retryAfter >= 0 ? retryAfter : policy.delayNanos(attemptNumber);
+    }
+
+    static boolean isRetryable(Throwable error) {
+        if (error instanceof IOException) {
+            return true;
+        }
+        if (error instanceof WebhookException webhookException) {
+            int statusCode = webhookException.statusCode();
+            return statusCode == 429 || statusCode >= 500;
+        }
+        return false;
+    }
+
+    private static long retryAfterNanos(Throwable error) {
+        if (error instanceof WebhookException webhookException) {
+            return webhookException.retryAfter().map(retryAfter -> retryAfter.toNanos()).orElse(-1L);
+        }
+        return -1L;
+    }
+
+    @FunctionalInterface
+    interface BlockingAttempt<T> {
+        T run(int attempt) throws IOException, InterruptedException;
+    }
+
+    static Throwable unwrap(Throwable error) {
+        Throwable current = error;
+        while ((current instanceof CompletionException || current instanceof ExecutionException)
+                && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+}
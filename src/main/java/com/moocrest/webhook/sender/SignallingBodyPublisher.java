@@ -0,0 +1,54 @@
+package com.moocrest.webhook.sender;
+
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Flow;
+
+final class SignallingBodyPublisher implements HttpRequest.BodyPublisher {
+
+    private final HttpRequest.BodyPublisher delegate;
+    private final Runnable onWritten;
+
+    SignallingBodyPublisher(HttpRequest.BodyPublisher delegate, Runnable onWritten) {
+        this.delegate = delegate;
+        this.onWritten = onWritten;
+    }
+
+    @Override
+    public long contentLength() {
+        return delegate.contentLength();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        delegate.subscribe(new Flow.Subscriber<ByteBuffer>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscriber.onSubscribe(subscription);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                subscriber.onNext(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                try {
+                    subscriber.onError(throwable);
+                } finally {
+                    onWritten.run();
+                }
+            }
+
+            @Override
+            public void onComplete() {
+                try {
+                    subscriber.onComplete();
+                } finally {
+                    onWritten.run();
+                }
+            }
+        });
+    }
+}
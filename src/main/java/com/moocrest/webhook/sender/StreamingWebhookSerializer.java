@@ -0,0 +1,200 @@
+package com.moocrest.webhook.sender;
+
+import com.moocrest.webhook.model.WebhookAttachment;
+import com.moocrest.webhook.model.WebhookEmbed;
+import com.moocrest.webhook.model.WebhookMessage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+enum StreamingWebhookSerializer implements WebhookSerializer {
+    INSTANCE;
+
+    private static final byte[] CONTENT = name("content");
+    private static final byte[] USERNAME = name("username");
+    private static final byte[] AVATAR_URL = name("avatar_url");
+    private static final byte[] EMBEDS = name("embeds");
+    private static final byte[] THREAD_NAME = name("thread_name");
+    private static final byte[] FLAGS = name("flags");
+    private static final byte[] ATTACHMENTS = name("attachments");
+    private static final byte[] TITLE = name("title");
+    private static final byte[] DESCRIPTION = name("description");
+    private static final byte[] URL = name("url");
+    private static final byte[] COLOR = name("color");
+    private static final byte[] TIMESTAMP = name("timestamp");
+    private static final byte[] FOOTER = name("footer");
+    private static final byte[] IMAGE = name("image");
+    private static final byte[] THUMBNAIL = name("thumbnail");
+    private static final byte[] AUTHOR = name("author");
+    private static final byte[] FIELDS = name("fields");
+    private static final byte[] TEXT = name("text");
+    private static final byte[] ICON_URL = name("icon_url");
+    private static final byte[] PROXY_URL = name("proxy_url");
+    private static final byte[] HEIGHT = name("height");
+    private static final byte[] WIDTH = name("width");
+    private static final byte[] NAME = name("name");
+    private static final byte[] VALUE = name("value");
+    private static final byte[] INLINE = name("inline");
+    private static final byte[] ID = name("id");
+    private static final byte[] FILENAME = name("filename");
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+
+    @Override
+    public void write(WebhookMessage message, OutputStream out) throws IOException {
+        out.write('{');
+        boolean first = true;
+        first = string(out, first, CONTENT, message.content());
+        first = string(out, first, USERNAME, message.username());
+        first = string(out, first, AVATAR_URL, message.avatarUrl());
+        if (message.embeds() != null) {
+            first = field(out, first, EMBEDS);
+            writeEmbeds(out, message.embeds());
+        }
+        first = string(out, first, THREAD_NAME, message.threadName());
+        first = number(out, first, FLAGS, message.flags());
+        if (message.attachments() != null) {
+            field(out, first, ATTACHMENTS);
+            writeAttachments(out, message.attachments());
+        }
+        out.write('}');
+    }
+
+    private static void writeEmbeds(OutputStream out, List<WebhookEmbed> embeds) throws IOException {
+        out.write('[');
+        for (int i = 0; i < embeds.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            writeEmbed(out, embeds.get(i));
+        }
+        out.write(']');
+    }
+
+    private static void writeEmbed(OutputStream out, WebhookEmbed embed) throws IOException {
+        out.write('{');
+        boolean first = true;
+        first = string(out, first, TITLE, embed.title());
+        first = string(out, first, DESCRIPTION, embed.description());
+        first = string(out, first, URL, embed.url());
+        first = number(out, first, COLOR, embed.color());
+        first = string(out, first, TIMESTAMP, embed.timestamp() != null ? embed.timestamp().toString() : null);
+        if (embed.footer() != null) {
+            first = field(out, first, FOOTER);
+            out.write('{');
+            boolean inner = string(out, true, TEXT, embed.footer().text());
+            string(out, inner, ICON_URL, embed.footer().iconUrl());
+            out.write('}');
+        }
+        if (embed.image() != null) {
+            first = field(out, first, IMAGE);
+            writeMedia(out, embed.image().url(), embed.image().proxyUrl(), embed.image().height(),
+                    embed.image().width());
+        }
+        if (embed.thumbnail() != null) {
+            first = field(out, first, THUMBNAIL);
+            writeMedia(out, embed.thumbnail().url(), embed.thumbnail().proxyUrl(), embed.thumbnail().height(),
+                    embed.thumbnail().width());
+        }
+        if (embed.author() != null) {
+            first = field(out, first, AUTHOR);
+            out.write('{');
+            boolean inner = string(out, true, NAME, embed.author().name());
+            inner = string(out, inner, URL, embed.author().url());
+            string(out, inner, ICON_URL, embed.author().iconUrl());
+            out.write('}');
+        }
+        if (embed.fields() != null) {
+            field(out, first, FIELDS);
+            writeFields(out, embed.fields());
+        }
+        out.write('}');
+    }
+
+    private static void writeMedia(OutputStream out, String url, String proxyUrl, Integer height, Integer width)
+            throws IOException {
+        out.write('{');
+        boolean first = string(out, true, URL, url);
+        first = string(out, first, PROXY_URL, proxyUrl);
+        first = number(out, first, HEIGHT, height);
+        number(out, first, WIDTH, width);
+        out.write('}');
+    }
+
+    private static void writeFields(OutputStream out, List<WebhookEmbed.Field> fields) throws IOException {
+        out.write('[');
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            WebhookEmbed.Field field = fields.get(i);
+            out.write('{');
+            boolean first = string(out, true, NAME, field.name());
+            first = string(out, first, VALUE, field.value());
+            if (field.inline() != null) {
+                field(out, first, INLINE);
+                out.write(field.inline() ? TRUE : FALSE);
+            }
+            out.write('}');
+        }
+        out.write(']');
+    }
+
+    private static void writeAttachments(OutputStream out, List<WebhookAttachment> attachments) throws IOException {
+        out.write('[');
+        for (int i = 0; i < attachments.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            WebhookAttachment attachment = attachments.get(i);
+            out.write('{');
+            field(out, true, ID);
+            writeInt(out, attachment.id());
+            boolean first = string(out, false, FILENAME, attachment.filename());
+            string(out, first, DESCRIPTION, attachment.description());
+            out.write('}');
+        }
+        out.write(']');
+    }
+
+    private static boolean string(OutputStream out, boolean first, byte[] name, String value) throws IOException {
+        if (value == null) {
+            return first;
+        }
+        field(out, first, name);
+        out.write('"');
+        JsonStrings.writeEscaped(out, value);
+        out.write('"');
+        return false;
+    }
+
+    private static boolean number(OutputStream out, boolean first, byte[] name, Integer value) throws IOException {
+        if (value == null) {
+            return first;
+        }
+        field(out, first, name);
+        writeInt(out, value);
+        return false;
+    }
+
+    private static boolean field(OutputStream out, boolean first, byte[] name) throws IOException {
+        if (!first) {
+            out.write(',');
+        }
+        out.write(name);
+        return false;
+    }
+
+    private static void writeInt(OutputStream out, int value) throws IOException {
+        String digits = Integer.toString(value);
+        for (int i = 0; i < digits.length(); i++) {
+            out.write(digits.charAt(i));
+        }
+    }
+
+    private static byte[] name(String name) {
+        return ("\"" + name + "\":").getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,42 @@
+package com.moocrest.webhook.sender;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+final class VirtualThreads {
+
+    private static final Method NEW_PER_TASK_EXECUTOR = findPerTaskExecutorFactory();
+
+    private VirtualThreads() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    static boolean isSupported() {
+        return NEW_PER_TASK_EXECUTOR != null;
+    }
+
+    static ExecutorService newPerTaskExecutor() {
+        if (NEW_PER_TASK_EXECUTOR == null) {
+            throw new IllegalStateException("Virtual threads require Java 21 or newer, running on "
+                    + Runtime.version());
+        }
+        try {
+            return (ExecutorService) NEW_PER_TASK_EXECUTOR.invoke(null);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Failed to create virtual thread executor", e);
+        }
+    }
+
+    private static Method findPerTaskExecutorFactory() {
+        if (Runtime.version().feature() < 21) {
+            return null;
+        }
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
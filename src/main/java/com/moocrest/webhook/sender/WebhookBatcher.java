@@ -0,0 +1,172 @@
+package com.moocrest.webhook.sender;
+
+import com.moocrest.webhook.model.WebhookMessage;
+import com.moocrest.webhook.util.WebhookException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+public final class WebhookBatcher implements AutoCloseable {
+
+    private final WebhookClient client;
+    private final BatchPolicy policy;
+    private final Map<String, PendingQueue> queues = new ConcurrentHashMap<>();
+    private final Map<String, PendingQueue> bulkQueues = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    public WebhookBatcher(WebhookClient client, BatchPolicy policy) {
+        this.client = Objects.requireNonNull(client, "client");
+        this.policy = Objects.requireNonNull(policy, "policy");
+    }
+
+    public WebhookBatcher(WebhookClient client) {
+        this(client, BatchPolicy.defaultPolicy());
+    }
+
+    public CompletableFuture<Boolean> submit(String webhookUrl, WebhookMessage message) {
+        return submit(webhookUrl, message, DeliveryPriority.NORMAL);
+    }
+
+    public CompletableFuture<Boolean> submit(String webhookUrl, WebhookMessage message, DeliveryPriority priority) {
+        Objects.requireNonNull(webhookUrl, "webhookUrl");
+        Objects.requireNonNull(message, "message");
+        Objects.requireNonNull(priority, "priority");
+        if (closed) {
+            return CompletableFuture.failedFuture(new WebhookException("Batcher is closed"));
+        }
+        if (priority == DeliveryPriority.CRITICAL) {
+            return client.sendWebhook(webhookUrl, message, priority);
+        }
+        Map<String, PendingQueue> target = priority == DeliveryPriority.BULK ? bulkQueues : queues;
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        Pending pending = new Pending(message, result);
+        List<Pending> ready = new ArrayList<>();
+        List<Pending> shed = new ArrayList<>(1);
+        target.compute(webhookUrl, (url, queue) -> {
+            PendingQueue current = queue != null ? queue : new PendingQueue(target, url, priority);
+            current.add(pending, ready, shed);
+            return current.isEmpty() ? null : current;
+        });
+        shed.forEach(item -> item.result().complete(false));
+        dispatch(webhookUrl, ready, priority);
+        return result;
+    }
+
+    public void flush() {
+        flush(queues, DeliveryPriority.NORMAL);
+        flush(bulkQueues, DeliveryPriority.BULK);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        flush();
+    }
+
+    private void flush(Map<String, PendingQueue> target, DeliveryPriority priority) {
+        for (String webhookUrl : target.keySet()) {
+            List<Pending> ready = new ArrayList<>();
+            target.computeIfPresent(webhookUrl, (url, queue) -> {
+                ready.addAll(queue.drain());
+                return null;
+            });
+            dispatch(webhookUrl, ready, priority);
+        }
+    }
+
+    private void dispatch(String webhookUrl, List<Pending> pending, DeliveryPriority priority) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        for (List<Pending> group : MessageCoalescer.group(pending, Pending::message)) {
+            List<WebhookMessage> messages = new ArrayList<>(group.size());
+            group.forEach(item -> messages.add(item.message()));
+            client.sendWebhook(webhookUrl, MessageCoalescer.merge(messages), priority).whenComplete((success, error) -> {
+                for (Pending item : group) {
+                    if (error != null) {
+                        item.result().completeExceptionally(error);
+                    } else {
+                        item.result().complete(success);
+                    }
+                }
+            });
+        }
+    }
+
+    private record Pending(WebhookMessage message, CompletableFuture<Boolean> result) {
+    }
+
+    private final class PendingQueue {
+        private final Map<String, PendingQueue> owner;
+        private final String webhookUrl;
+        private final DeliveryPriority priority;
+        private List<Pending> items = new ArrayList<>();
+        private ScheduledFuture<?> flushTask;
+
+        PendingQueue(Map<String, PendingQueue> owner, String webhookUrl, DeliveryPriority priority) {
+            this.owner = owner;
+            this.webhookUrl = webhookUrl;
+            this.priority = priority;
+        }
+
+        void add(Pending pending, List<Pending> ready, List<Pending> shed) {
+            items.add(pending);
+            if (priority == DeliveryPriority.BULK && items.size() > policy.maxBulkPending()) {
+                shed.add(items.remove(0));
+            }
+            if (items.size() >= policy.maxMessages() && !deferBulk()) {
+                ready.addAll(drain());
+            } else {
+                scheduleFlush();
+            }
+        }
+
+        boolean isEmpty() {
+            return items.isEmpty();
+        }
+
+        private boolean deferBulk() {
+            return priority == DeliveryPriority.BULK && client.queueDepth() > 0;
+        }
+
+        private void scheduleFlush() {
+            if (flushTask == null) {
+                flushTask = client.scheduler().schedule(() -> client.executor().execute(this::flushNow),
+                        policy.maxDelay().toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+
+        List<Pending> drain() {
+            if (flushTask != null) {
+                flushTask.cancel(false);
+                flushTask = null;
+            }
+            List<Pending> drained = items;
+            items = new ArrayList<>();
+            return drained;
+        }
+
+        private void flushNow() {
+            List<Pending> ready = new ArrayList<>();
+            owner.computeIfPresent(webhookUrl, (url, queue) -> {
+                if (queue != this) {
+                    return queue;
+                }
+                flushTask = null;
+                if (deferBulk()) {
+                    scheduleFlush();
+                    return this;
+                }
+                ready.addAll(drain());
+                return null;
+            });
+            dispatch(webhookUrl, ready, priority);
+        }
+    }
+}
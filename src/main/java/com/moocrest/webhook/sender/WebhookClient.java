@@ -0,0 +1,876 @@
+package com.moocrest.webhook.sender;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.moocrest.webhook.metrics.WebhookMetrics;
+import com.moocrest.webhook.model.SentMessage;
+import com.moocrest.webhook.model.WebhookEmbed;
+import com.moocrest.webhook.model.WebhookMessage;
+import com.moocrest.webhook.util.DiscordLimits;
+import com.moocrest.webhook.util.LimitViolation;
+import com.moocrest.webhook.util.WebhookEndpoint;
+import com.moocrest.webhook.util.WebhookException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public final class WebhookClient implements AutoCloseable {
+
+    private static final String API_PATH = "/api/";
+    private static final String USER_AGENT = "Discord-Webhook-Java/1.0";
+    private static final int ENDPOINT_CACHE_SIZE = 1024;
+    private static final Consumer<HttpResponse<String>> IGNORE_RESPONSE = response -> {
+    };
+
+    private final ExecutionMode executionMode;
+    private final Executor executor;
+    private final boolean ownsExecutor;
+    private final HttpClient httpClient;
+    private final JsonPayloadWriter payloadWriter;
+    private final PreparedMessageCache preparedCache;
+    private final EndpointCache endpoints = new EndpointCache(ENDPOINT_CACHE_SIZE);
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownsScheduler;
+    private final Duration requestTimeout;
+    private final long maxUploadSize;
+    private final boolean autoSplit;
+    private final int orderedPipelineDepth;
+    private final Map<WebhookEndpoint, EndpointSequencer> sequencers = new ConcurrentHashMap<>();
+    private final URI baseUri;
+    private final WebhookRateLimiter rateLimiter;
+    private final GlobalRateLimitGate globalGate;
+    private final RetryScheduler retryScheduler;
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final DeliveryQueue deliveryQueue;
+    private final WebhookMetrics metrics;
+    private final ConnectionTracker connections;
+    private final MessageIdCache messageIds;
+    private final ObjectReader sentMessageReader;
+    private final ScheduledFuture<?> keepAlive;
+    private volatile boolean closed;
+
+    WebhookClient(WebhookClientBuilder builder) {
+        this.executionMode = builder.executionMode;
+        this.ownsExecutor = builder.executor == null && executionMode == ExecutionMode.VIRTUAL_THREADS;
+        this.executor = builder.executor != null ? builder.executor : createExecutor(executionMode);
+        this.httpClient = builder.httpClient != null ? builder.httpClient : createHttpClient(builder, executor);
+        WebhookSerializer serializer = builder.serializer;
+        if (serializer == null) {
+            serializer = builder.objectMapper != null
+                    ? WebhookSerializer.jackson(builder.objectMapper)
+                    : WebhookSerializer.jackson();
+        }
+        this.ownsScheduler = builder.scheduler == null;
+        this.scheduler = ownsScheduler ? createScheduler() : builder.scheduler;
+        this.requestTimeout = builder.requestTimeout;
+        this.maxUploadSize = builder.maxUploadSize;
+        this.autoSplit = builder.autoSplit;
+        this.orderedPipelineDepth = builder.orderedPipelineDepth;
+        this.baseUri = builder.baseUri;
+        this.rateLimiter = new WebhookRateLimiter(scheduler, builder.rateLimitPolicy);
+        this.globalGate = new GlobalRateLimitGate(scheduler, requestTimeout.toNanos());
+        this.retryScheduler = new RetryScheduler(scheduler, builder.retryPolicy);
+        this.circuitBreakers = new CircuitBreakerRegistry(builder.circuitBreakerPolicy);
+        this.deliveryQueue = new DeliveryQueue(builder.deliveryQueuePolicy, executor);
+        this.metrics = builder.metrics;
+        this.payloadWriter = new JsonPayloadWriter(serializer,
+                new PayloadPool(builder.deliveryQueuePolicy.maxConcurrency()), metrics);
+        this.preparedCache = new PreparedMessageCache(builder.preparedCacheSize);
+        this.messageIds = new MessageIdCache(builder.messageIdCacheSize);
+        this.sentMessageReader = (builder.objectMapper != null
+                ? builder.objectMapper
+                : JacksonWebhookSerializer.defaultObjectMapper()).readerFor(SentMessage.class);
+        this.connections = new ConnectionTracker(builder.connectionPolicy.idleTimeout().toNanos());
+        this.keepAlive = builder.connectionPolicy.keepsAlive()
+                ? scheduleKeepAlive(builder.connectionPolicy.keepAliveInterval().toNanos())
+                : null;
+    }
+
+    public static WebhookClientBuilder builder() {
+        return new WebhookClientBuilder();
+    }
+
+    public CompletableFuture<Boolean> sendWebhook(String webhookUrl, WebhookMessage message) {
+        return sendWebhook(webhookUrl, message, requestTimeout);
+    }
+
+    public CompletableFuture<Boolean> sendWebhook(String webhookUrl, WebhookMessage message, Duration timeout) {
+        return sendMessage(DeliveryPriority.NORMAL, () -> endpoints.get(webhookUrl), message, timeout);
+    }
+
+    public CompletableFuture<Boolean> sendWebhook(String webhookUrl, WebhookMessage message,
+            DeliveryPriority priority) {
+        return sendMessage(priority, () -> endpoints.get(webhookUrl), message, requestTimeout);
+    }
+
+    public CompletableFuture<Boolean> sendWebhook(WebhookEndpoint endpoint, WebhookMessage message) {
+        return sendWebhook(endpoint, message, requestTimeout);
+    }
+
+    public CompletableFuture<Boolean> sendWebhook(WebhookEndpoint endpoint, WebhookMessage message, Duration timeout) {
+        return sendMessage(DeliveryPriority.NORMAL, () -> endpoint, message, timeout);
+    }
+
+    public CompletableFuture<Boolean> sendWebhook(WebhookEndpoint endpoint, WebhookMessage message,
+            DeliveryPriority priority) {
+        return sendMessage(priority, () -> endpoint, message, requestTimeout);
+    }
+
+    public CompletableFuture<BroadcastResult> sendToAll(Collection<String> webhookUrls, WebhookMessage message) {
+        return sendToAll(webhookUrls, message, DeliveryPriority.NORMAL);
+    }
+
+    public CompletableFuture<BroadcastResult> sendToAll(Collection<String> webhookUrls, WebhookMessage message,
+            DeliveryPriority priority) {
+        LimitViolation violation = DiscordLimits.check(message);
+        if (violation != null) {
+            return CompletableFuture.failedFuture(WebhookException.limitExceeded(violation));
+        }
+        PayloadBuffer payload;
+        try {
+            payload = payloadWriter.write(message);
+        } catch (WebhookException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        Map<String, CompletableFuture<Boolean>> sends = new LinkedHashMap<>();
+        for (String webhookUrl : webhookUrls) {
+            if (!sends.containsKey(webhookUrl)) {
+                sends.put(webhookUrl, submit(priority, () -> endpoints.get(webhookUrl), payload::retain,
+                        requestTimeout));
+            }
+        }
+        return CompletableFuture.allOf(sends.values().toArray(CompletableFuture[]::new))
+                .handle((ignored, error) -> {
+                    payload.release();
+                    return BroadcastResult.of(sends);
+                });
+    }
+
+    public CompletableFuture<SentMessage> sendAndWait(String webhookUrl, WebhookMessage message) {
+        return sendAndWait(() -> endpoints.get(webhookUrl), message);
+    }
+
+    public CompletableFuture<SentMessage> sendAndWait(WebhookEndpoint endpoint, WebhookMessage message) {
+        return sendAndWait(() -> endpoint, message);
+    }
+
+    public CompletableFuture<SentMessage> editMessage(String webhookUrl, String messageId, WebhookMessage message) {
+        return editMessage(() -> endpoints.get(webhookUrl), messageId, message);
+    }
+
+    public CompletableFuture<SentMessage> editMessage(WebhookEndpoint endpoint, String messageId,
+            WebhookMessage message) {
+        return editMessage(() -> endpoint, messageId, message);
+    }
+
+    public CompletableFuture<Boolean> deleteMessage(String webhookUrl, String messageId) {
+        return deleteMessage(() -> endpoints.get(webhookUrl), messageId);
+    }
+
+    public CompletableFuture<Boolean> deleteMessage(WebhookEndpoint endpoint, String messageId) {
+        return deleteMessage(() -> endpoint, messageId);
+    }
+
+    public CompletableFuture<SentMessage> upsertMessage(String webhookUrl, String key, WebhookMessage message) {
+        WebhookEndpoint endpoint;
+        try {
+            endpoint = endpoints.get(webhookUrl);
+        } catch (WebhookException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return upsertMessage(endpoint, key, message);
+    }
+
+    public CompletableFuture<SentMessage> upsertMessage(WebhookEndpoint endpoint, String key, WebhookMessage message) {
+        CompletableFuture<String> next = new CompletableFuture<>();
+        CompletableFuture<SentMessage> upsert = messageIds.swap(endpoint, key, next)
+                .thenCompose(messageId -> messageId == null
+                        ? sendAndWait(endpoint, message)
+                        : editMessage(endpoint, messageId, message).handle((sent, error) -> {
+                            if (error == null) {
+                                return CompletableFuture.completedFuture(sent);
+                            }
+                            if (isUnknownMessage(error)) {
+                                return sendAndWait(endpoint, message);
+                            }
+                            next.complete(messageId);
+                            return CompletableFuture.<SentMessage>failedFuture(error);
+                        }).thenCompose(Function.identity()));
+        upsert.whenComplete((sent, error) -> {
+            next.complete(sent != null ? sent.id() : null);
+            if (next.join() == null) {
+                messageIds.remove(endpoint, key, next);
+            }
+        });
+        return upsert;
+    }
+
+    public CompletableFuture<Boolean> deleteKeyedMessage(String webhookUrl, String key) {
+        WebhookEndpoint endpoint;
+        try {
+            endpoint = endpoints.get(webhookUrl);
+        } catch (WebhookException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<String> next = new CompletableFuture<>();
+        CompletableFuture<Boolean> delete = messageIds.swap(endpoint, key, next)
+                .thenCompose(messageId -> messageId == null
+                        ? CompletableFuture.completedFuture(false)
+                        : deleteMessage(endpoint, messageId));
+        delete.whenComplete((deleted, error) -> {
+            next.complete(null);
+            messageIds.remove(endpoint, key, next);
+        });
+        return delete;
+    }
+
+    public Optional<String> messageId(String webhookUrl, String key) {
+        return Optional.ofNullable(messageIds.get(endpoints.get(webhookUrl), key));
+    }
+
+    public CompletableFuture<Void> warmUp(Collection<String> webhookUrls) {
+        Map<String, WebhookEndpoint> hosts = new LinkedHashMap<>();
+        for (String webhookUrl : webhookUrls) {
+            WebhookEndpoint endpoint;
+            try {
+                endpoint = endpoints.get(webhookUrl);
+            } catch (WebhookException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+            hosts.putIfAbsent(resolveUri(endpoint).getAuthority(), endpoint);
+        }
+        return CompletableFuture.allOf(hosts.values().stream()
+                .map(this::warmUp)
+                .toArray(CompletableFuture[]::new));
+    }
+
+    public CompletableFuture<Void> warmUp(WebhookEndpoint endpoint) {
+        if (closed) {
+            return CompletableFuture.failedFuture(WebhookException.clientClosed());
+        }
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(resolveUri(endpoint))
+                .timeout(requestTimeout)
+                .header("User-Agent", USER_AGENT)
+                .GET()
+                .build();
+        String route = endpoint.route() + " GET";
+        return globalGate.acquire(System.nanoTime())
+                .thenCompose(ignored -> rateLimiter.acquire(route, DeliveryPriority.BULK))
+                .thenCompose(ignored -> {
+                    long startedAt = System.nanoTime();
+                    return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                            .handle((response, error) -> {
+                                if (error != null) {
+                                    globalGate.onCleared(startedAt);
+                                    throw WebhookException.networkError(endpoint.toString(),
+                                            RetryScheduler.unwrap(error));
+                                }
+                                recordConnection(endpoint, response);
+                                reportGlobalLimit(response, startedAt);
+                                rateLimiter.update(route, response.headers());
+                                return null;
+                            });
+                });
+    }
+
+    public PreparedWebhookMessage prepare(WebhookMessage template) {
+        return preparedCache.get(template, payloadWriter::prepare);
+    }
+
+    public CompletableFuture<Boolean> sendPrepared(String webhookUrl, PreparedWebhookMessage prepared) {
+        return sendPrepared(webhookUrl, prepared, Map.of());
+    }
+
+    public CompletableFuture<Boolean> sendPrepared(String webhookUrl, PreparedWebhookMessage prepared,
+            Map<String, String> values) {
+        LimitViolation violation = prepared.check(values);
+        if (violation != null) {
+            return CompletableFuture.failedFuture(WebhookException.limitExceeded(violation));
+        }
+        return submit(DeliveryPriority.NORMAL, () -> endpoints.get(webhookUrl),
+                () -> payloadWriter.write(prepared, values), requestTimeout);
+    }
+
+    public CompletableFuture<Boolean> sendPrepared(WebhookEndpoint endpoint, PreparedWebhookMessage prepared) {
+        return sendPrepared(endpoint, prepared, Map.of());
+    }
+
+    public CompletableFuture<Boolean> sendPrepared(WebhookEndpoint endpoint, PreparedWebhookMessage prepared,
+            Map<String, String> values) {
+        LimitViolation violation = prepared.check(values);
+        if (violation != null) {
+            return CompletableFuture.failedFuture(WebhookException.limitExceeded(violation));
+        }
+        return submit(DeliveryPriority.NORMAL, () -> endpoint, () -> payloadWriter.write(prepared, values),
+                requestTimeout);
+    }
+
+    public CompletableFuture<Boolean> sendSimpleMessage(String webhookUrl, String content) {
+        WebhookMessage message = WebhookMessage.builder()
+                .content(content)
+                .build();
+        return sendWebhook(webhookUrl, message);
+    }
+
+    public CompletableFuture<Boolean> sendSimpleEmbed(String webhookUrl, String title, String description) {
+        WebhookMessage message = WebhookMessage.builder()
+                .addEmbed(WebhookEmbed.builder()
+                        .title(title)
+                        .description(description)
+                        .build())
+                .build();
+        return sendWebhook(webhookUrl, message);
+    }
+
+    public ExecutionMode executionMode() {
+        return executionMode;
+    }
+
+    public CircuitState circuitState(WebhookEndpoint endpoint) {
+        return circuitBreakers.state(endpoint);
+    }
+
+    public void resetCircuit(WebhookEndpoint endpoint) {
+        circuitBreakers.reset(endpoint);
+    }
+
+    public int queueDepth() {
+        int depth = deliveryQueue.depth();
+        for (EndpointSequencer sequencer : sequencers.values()) {
+            depth += sequencer.pending();
+        }
+        return depth;
+    }
+
+    public int inFlightCount() {
+        return deliveryQueue.inFlight();
+    }
+
+    ScheduledExecutorService scheduler() {
+        return scheduler;
+    }
+
+    Executor executor() {
+        return executor;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        if (keepAlive != null) {
+            keepAlive.cancel(false);
+        }
+        if (ownsScheduler) {
+            scheduler.shutdownNow();
+        }
+        WebhookException failure = WebhookException.clientClosed();
+        sequencers.values().forEach(sequencer -> sequencer.close(failure));
+        deliveryQueue.close();
+        globalGate.close(failure);
+        rateLimiter.close(failure);
+        retryScheduler.close();
+        endpoints.clear();
+        if (ownsExecutor && executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    private CompletableFuture<Boolean> sendMessage(DeliveryPriority priority, Supplier<WebhookEndpoint> resolver,
+            WebhookMessage message, Duration timeout) {
+        LimitViolation violation = DiscordLimits.check(message);
+        if (violation == null) {
+            return submit(priority, resolver, () -> payloadWriter.write(message), timeout);
+        }
+        if (!autoSplit) {
+            return CompletableFuture.failedFuture(WebhookException.limitExceeded(violation));
+        }
+        List<WebhookMessage> parts;
+        try {
+            parts = DiscordLimits.split(message);
+        } catch (WebhookException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<Boolean> delivery = CompletableFuture.completedFuture(true);
+        for (WebhookMessage part : parts) {
+            if (orderedPipelineDepth > 0) {
+                delivery = delivery.thenCombine(submit(priority, resolver, () -> payloadWriter.write(part), timeout),
+                        (previous, delivered) -> previous && delivered);
+            } else {
+                delivery = delivery.thenCompose(delivered -> delivered
+                        ? submit(priority, resolver, () -> payloadWriter.write(part), timeout)
+                        : CompletableFuture.completedFuture(false));
+            }
+        }
+        return delivery;
+    }
+
+    private CompletableFuture<SentMessage> sendAndWait(Supplier<WebhookEndpoint> resolver, WebhookMessage message) {
+        LimitViolation violation = DiscordLimits.check(message);
+        if (violation != null) {
+            return CompletableFuture.failedFuture(WebhookException.limitExceeded(violation));
+        }
+        return exchange(DeliveryPriority.NORMAL, resolver, () -> payloadWriter.write(message),
+                Operation.EXECUTE_AND_WAIT, this::readSentMessage);
+    }
+
+    private CompletableFuture<SentMessage> editMessage(Supplier<WebhookEndpoint> resolver, String messageId,
+            WebhookMessage message) {
+        Operation operation;
+        try {
+            operation = Operation.edit(messageId);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        LimitViolation violation = DiscordLimits.check(message);
+        if (violation != null) {
+            return CompletableFuture.failedFuture(WebhookException.limitExceeded(violation));
+        }
+        return exchange(DeliveryPriority.NORMAL, resolver, () -> payloadWriter.write(message), operation,
+                this::readSentMessage);
+    }
+
+    private CompletableFuture<Boolean> deleteMessage(Supplier<WebhookEndpoint> resolver, String messageId) {
+        Operation operation;
+        try {
+            operation = Operation.delete(messageId);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return deliver(DeliveryPriority.NORMAL, resolver, payloadWriter::empty, operation, requestTimeout,
+                IGNORE_RESPONSE).handle((deleted, error) -> {
+                    if (error == null) {
+                        return CompletableFuture.completedFuture(deleted);
+                    }
+                    if (isUnknownMessage(error)) {
+                        return CompletableFuture.completedFuture(false);
+                    }
+                    return CompletableFuture.<Boolean>failedFuture(error);
+                }).thenCompose(Function.identity());
+    }
+
+    private SentMessage readSentMessage(HttpResponse<String> response) {
+        try {
+            return sentMessageReader.readValue(response.body());
+        } catch (IOException | IllegalArgumentException e) {
+            throw WebhookException.invalidResponse(e);
+        }
+    }
+
+    private static boolean isUnknownMessage(Throwable error) {
+        return RetryScheduler.unwrap(error) instanceof WebhookException webhookException
+                && webhookException.statusCode() == 404;
+    }
+
+    private CompletableFuture<Boolean> submit(DeliveryPriority priority, Supplier<WebhookEndpoint> resolver,
+            Supplier<PayloadBuffer> serializer, Duration timeout) {
+        return deliver(priority, resolver, serializer, Operation.EXECUTE, timeout, IGNORE_RESPONSE);
+    }
+
+    private <T> CompletableFuture<T> exchange(DeliveryPriority priority, Supplier<WebhookEndpoint> resolver,
+            Supplier<PayloadBuffer> serializer, Operation operation, Function<HttpResponse<String>, T> reader) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        deliver(priority, resolver, serializer, operation, requestTimeout,
+                response -> result.complete(reader.apply(response)))
+                .whenComplete((delivered, error) -> {
+                    if (error != null) {
+                        result.completeExceptionally(RetryScheduler.unwrap(error));
+                    } else if (!delivered) {
+                        result.completeExceptionally(WebhookException.dropped());
+                    }
+                });
+        return result;
+    }
+
+    private CompletableFuture<Boolean> deliver(DeliveryPriority priority, Supplier<WebhookEndpoint> resolver,
+            Supplier<PayloadBuffer> serializer, Operation operation, Duration timeout,
+            Consumer<HttpResponse<String>> onResponse) {
+        if (closed) {
+            return CompletableFuture.failedFuture(WebhookException.clientClosed());
+        }
+        if (orderedPipelineDepth > 0) {
+            return sequence(priority, resolver, serializer, operation, timeout, onResponse);
+        }
+        return deliveryQueue.submit(priority, () -> dispatch(resolver, serializer, operation, timeout, priority)
+                .thenApply(response -> {
+                    onResponse.accept(response);
+                    return true;
+                }));
+    }
+
+    private CompletableFuture<Boolean> sequence(DeliveryPriority priority, Supplier<WebhookEndpoint> resolver,
+            Supplier<PayloadBuffer> serializer, Operation operation, Duration timeout,
+            Consumer<HttpResponse<String>> onResponse) {
+        WebhookEndpoint endpoint;
+        try {
+            endpoint = resolver.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<Boolean> rejected = deliveryQueue.admit(priority);
+        if (rejected != null) {
+            return rejected;
+        }
+
+        OrderedRequest ordered = new OrderedRequest(endpoint, operation, serializer, timeout);
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        sequencers.compute(endpoint, (key, sequencer) -> {
+            EndpointSequencer current = sequencer != null ? sequencer : new EndpointSequencer(scheduler,
+                    retryScheduler, priority, () -> rateLimiter.remaining(key), orderedPipelineDepth,
+                    () -> sequencers.computeIfPresent(key, (ignored, idle) -> idle.isIdle() ? null : idle));
+            current.enqueue((attempt, turn, dispatched) -> turn.isDone()
+                    ? sendOrdered(ordered, current.priority(), attempt, dispatched, onResponse)
+                    : turn.thenComposeAsync(ignored -> sendOrdered(ordered, current.priority(), attempt, dispatched,
+                            onResponse), executor), result);
+            return current;
+        }).pump();
+        return result.whenComplete((delivered, error) -> {
+            ordered.release();
+            deliveryQueue.release();
+        });
+    }
+
+    private CompletableFuture<Boolean> sendOrdered(OrderedRequest ordered, DeliveryPriority priority, int attempt,
+            CompletableFuture<Void> dispatched, Consumer<HttpResponse<String>> onResponse) {
+        return deliveryQueue.submitAdmitted(priority, () -> CompletableFuture
+                .supplyAsync(() -> ordered.request(() -> dispatched.complete(null)), executor)
+                .thenCompose(request -> sendOnce(ordered.endpoint, ordered.operation, request, ordered.payload,
+                        priority, attempt))
+                .thenApply(response -> {
+                    onResponse.accept(response);
+                    return true;
+                }));
+    }
+
+    private CompletableFuture<HttpResponse<String>> dispatch(Supplier<WebhookEndpoint> resolver,
+            Supplier<PayloadBuffer> serializer, Operation operation, Duration timeout, DeliveryPriority priority) {
+        if (executionMode == ExecutionMode.VIRTUAL_THREADS) {
+            return CompletableFuture.supplyAsync(
+                    () -> sendBlocking(resolver.get(), serializer, operation, timeout, priority), executor);
+        }
+        return CompletableFuture.supplyAsync(resolver, executor).thenCompose(endpoint -> {
+            PayloadBuffer payload = serializer.get();
+            HttpRequest request;
+            try {
+                request = buildRequest(endpoint, operation, payload, timeout);
+            } catch (RuntimeException e) {
+                payload.release();
+                throw e;
+            }
+            return retryScheduler.execute(attempt -> sendOnce(endpoint, operation, request, payload, priority,
+                            attempt))
+                    .whenComplete((response, error) -> payload.release());
+        });
+    }
+
+    private HttpResponse<String> sendBlocking(WebhookEndpoint endpoint, Supplier<PayloadBuffer> serializer,
+            Operation operation, Duration timeout, DeliveryPriority priority) {
+        PayloadBuffer payload = serializer.get();
+        try {
+            HttpRequest request = buildRequest(endpoint, operation, payload, timeout);
+            String route = operation.rateLimitRoute(endpoint);
+            CircuitBreaker breaker = circuitBreakers.get(endpoint);
+            return retryScheduler.executeBlocking(attempt -> {
+                if (attempt > 1) {
+                    metrics.retried(endpoint, attempt);
+                }
+                if (!breaker.tryAcquire(System.nanoTime())) {
+                    throw WebhookException.circuitOpen(endpoint.id(), breaker.isPermanentlyOpen());
+                }
+                long queuedAt = System.nanoTime();
+                globalGate.acquire(queuedAt).join();
+                rateLimiter.acquire(route, priority).join();
+                long startedAt = System.nanoTime();
+                metrics.rateLimitWaited(endpoint, startedAt - queuedAt);
+                metrics.requestStarted(endpoint);
+                HttpResponse<String> response;
+                try {
+                    response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                } catch (IOException | InterruptedException e) {
+                    metrics.requestFailed(endpoint, e, System.nanoTime() - startedAt);
+                    breaker.onTransportFailure(e, System.nanoTime());
+                    globalGate.onCleared(startedAt);
+                    if (e instanceof HttpTimeoutException) {
+                        payload.markNotRecyclable();
+                    }
+                    throw e;
+                }
+                metrics.responseReceived(endpoint, response.statusCode(), System.nanoTime() - startedAt);
+                recordConnection(endpoint, response);
+                breaker.onResponse(operation.webhookStatus(response.statusCode()), System.nanoTime());
+                reportGlobalLimit(response, startedAt);
+                rateLimiter.update(route, response.headers());
+                return handleResponse(response);
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            payload.markNotRecyclable();
+            throw new WebhookException("Interrupted while sending webhook", e);
+        } finally {
+            payload.release();
+        }
+    }
+
+    private CompletableFuture<HttpResponse<String>> sendOnce(WebhookEndpoint endpoint, Operation operation,
+            HttpRequest request, PayloadBuffer payload, DeliveryPriority priority, int attempt) {
+        if (attempt > 1) {
+            metrics.retried(endpoint, attempt);
+        }
+        CircuitBreaker breaker = circuitBreakers.get(endpoint);
+        if (!breaker.tryAcquire(System.nanoTime())) {
+            return CompletableFuture.failedFuture(
+                    WebhookException.circuitOpen(endpoint.id(), breaker.isPermanentlyOpen()));
+        }
+        String route = operation.rateLimitRoute(endpoint);
+        long queuedAt = System.nanoTime();
+        return globalGate.acquire(queuedAt)
+                .thenCompose(ignored -> rateLimiter.acquire(route, priority))
+                .thenCompose(ignored -> {
+                    long startedAt = System.nanoTime();
+                    metrics.rateLimitWaited(endpoint, startedAt - queuedAt);
+                    metrics.requestStarted(endpoint);
+                    return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                            .whenComplete((response, error) -> {
+                                long completedAt = System.nanoTime();
+                                if (error == null) {
+                                    metrics.responseReceived(endpoint, response.statusCode(), completedAt - startedAt);
+                                    recordConnection(endpoint, response);
+                                    breaker.onResponse(operation.webhookStatus(response.statusCode()),
+                                            completedAt);
+                                    reportGlobalLimit(response, startedAt);
+                                    return;
+                                }
+                                metrics.requestFailed(endpoint, error, completedAt - startedAt);
+                                breaker.onTransportFailure(error, completedAt);
+                                globalGate.onCleared(startedAt);
+                                if (error instanceof HttpTimeoutException
+                                        || error.getCause() instanceof HttpTimeoutException) {
+                                    payload.markNotRecyclable();
+                                }
+                            });
+                })
+                .thenApply(response -> {
+                    rateLimiter.update(route, response.headers());
+                    return handleResponse(response);
+                });
+    }
+
+    private void recordConnection(WebhookEndpoint endpoint, HttpResponse<?> response) {
+        if (connections.record(endpoint, response.uri(), response.sslSession(), System.nanoTime())) {
+            metrics.connectionReused(endpoint);
+        } else {
+            metrics.connectionOpened(endpoint);
+        }
+    }
+
+    private ScheduledFuture<?> scheduleKeepAlive(long intervalNanos) {
+        return scheduler.scheduleWithFixedDelay(() -> {
+            if (globalGate.isLimited()) {
+                return;
+            }
+            for (WebhookEndpoint endpoint : connections.idleSince(System.nanoTime(), intervalNanos)) {
+                warmUp(endpoint);
+            }
+        }, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void reportGlobalLimit(HttpResponse<?> response, long startedAt) {
+        if (response.statusCode() == 429 && RateLimitHeaders.isGlobal(response.headers())) {
+            globalGate.onGlobalLimit(RateLimitHeaders.retryAfterNanos(response.headers()), System.nanoTime());
+        } else {
+            globalGate.onCleared(startedAt);
+        }
+    }
+
+    private static HttpResponse<String> handleResponse(HttpResponse<String> response) {
+        int statusCode = response.statusCode();
+
+        if (statusCode >= 200 && statusCode < 300) {
+            return response;
+        }
+
+        if (statusCode == 429) {
+            long retryAfterNanos = RateLimitHeaders.retryAfterNanos(response.headers());
+            throw WebhookException.rateLimited(Duration.ofNanos(retryAfterNanos), response.body());
+        }
+
+        throw WebhookException.httpError(statusCode, response.body());
+    }
+
+    private HttpRequest buildRequest(WebhookEndpoint endpoint, Operation operation, PayloadBuffer payload,
+            Duration timeout) {
+        return buildRequest(endpoint, operation, payload, timeout, null);
+    }
+
+    private HttpRequest buildRequest(WebhookEndpoint endpoint, Operation operation, PayloadBuffer payload,
+            Duration timeout, Runnable onWritten) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(resolveUri(endpoint, operation))
+                .timeout(timeout)
+                .header("User-Agent", USER_AGENT);
+        if (!operation.hasBody()) {
+            return builder.method(operation.method(), signalling(HttpRequest.BodyPublishers.noBody(), onWritten))
+                    .build();
+        }
+        HttpRequest.BodyPublisher body = payload.bodyPublisher();
+        String contentType = "application/json";
+        if (!payload.attachments().isEmpty()) {
+            MultipartBody multipart = MultipartBody.of(body, payload.attachments(), maxUploadSize);
+            body = multipart.publisher();
+            contentType = multipart.contentType();
+        }
+        return builder
+                .header("Content-Type", contentType)
+                .method(operation.method(), signalling(body, onWritten))
+                .build();
+    }
+
+    private static HttpRequest.BodyPublisher signalling(HttpRequest.BodyPublisher body, Runnable onWritten) {
+        return onWritten != null ? new SignallingBodyPublisher(body, onWritten) : body;
+    }
+
+    private URI resolveUri(WebhookEndpoint endpoint) {
+        return resolveUri(endpoint, Operation.EXECUTE);
+    }
+
+    private URI resolveUri(WebhookEndpoint endpoint, Operation operation) {
+        URI uri = endpoint.uri();
+        if (baseUri == null && operation == Operation.EXECUTE) {
+            return uri;
+        }
+        String path = uri.getRawPath();
+        if (operation.messageId() != null) {
+            path = path + "/messages/" + operation.messageId();
+        }
+        String query = uri.getRawQuery();
+        if (operation.waitForMessage() && !endpoint.waitForMessage()) {
+            query = query == null ? "wait=true" : query + "&wait=true";
+        }
+        String target = query == null ? path : path + "?" + query;
+        if (baseUri == null) {
+            return URI.create(uri.getScheme() + "://" + uri.getRawAuthority() + target);
+        }
+        return baseUri.resolve(target.substring(API_PATH.length()));
+    }
+
+    private static Executor createExecutor(ExecutionMode executionMode) {
+        return executionMode == ExecutionMode.VIRTUAL_THREADS
+                ? VirtualThreads.newPerTaskExecutor()
+                : ForkJoinPool.commonPool();
+    }
+
+    private static HttpClient createHttpClient(WebhookClientBuilder builder, Executor executor) {
+        HttpClient.Builder httpBuilder = HttpClient.newBuilder()
+                .version(builder.connectionPolicy.version())
+                .connectTimeout(builder.connectTimeout);
+        if (builder.executor != null || builder.executionMode == ExecutionMode.VIRTUAL_THREADS) {
+            httpBuilder.executor(executor);
+        }
+        return httpBuilder.build();
+    }
+
+    private static ScheduledExecutorService createScheduler() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "crest-webhook-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    private final class OrderedRequest {
+        private final WebhookEndpoint endpoint;
+        private final Operation operation;
+        private final Supplier<PayloadBuffer> serializer;
+        private final Duration timeout;
+        private PayloadBuffer payload;
+
+        private OrderedRequest(WebhookEndpoint endpoint, Operation operation, Supplier<PayloadBuffer> serializer,
+                Duration timeout) {
+            this.endpoint = endpoint;
+            this.operation = operation;
+            this.serializer = serializer;
+            this.timeout = timeout;
+        }
+
+        private synchronized HttpRequest request(Runnable onWritten) {
+            boolean serialized = payload == null;
+            if (serialized) {
+                payload = serializer.get();
+            }
+            try {
+                return buildRequest(endpoint, operation, payload, timeout, onWritten);
+            } catch (RuntimeException e) {
+                if (serialized) {
+                    payload.release();
+                    payload = null;
+                }
+                throw e;
+            }
+        }
+
+        private synchronized void release() {
+            if (payload != null) {
+                payload.release();
+                payload = null;
+            }
+        }
+    }
+
+    private record Operation(String method, String messageId, boolean waitForMessage) {
+
+        private static final Operation EXECUTE = new Operation("POST", null, false);
+        private static final Operation EXECUTE_AND_WAIT = new Operation("POST", null, true);
+
+        private static Operation edit(String messageId) {
+            return new Operation("PATCH", requireSnowflake(messageId), false);
+        }
+
+        private static Operation delete(String messageId) {
+            return new Operation("DELETE", requireSnowflake(messageId), false);
+        }
+
+        private boolean hasBody() {
+            return !"DELETE".equals(method);
+        }
+
+        private int webhookStatus(int statusCode) {
+            return messageId != null && statusCode == 404 ? 200 : statusCode;
+        }
+
+        private String rateLimitRoute(WebhookEndpoint endpoint) {
+            return messageId == null ? endpoint.route() : endpoint.route() + " " + method;
+        }
+
+        private static String requireSnowflake(String messageId) {
+            if (messageId == null || messageId.isEmpty()
+                    || !messageId.chars().allMatch(c -> c >= '0' && c <= '9')) {
+                throw new IllegalArgumentException("messageId must be a Discord snowflake: " + messageId);
+            }
+            return messageId;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.moocrest.webhook.sender;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moocrest.webhook.metrics.WebhookMetrics;
+import com.moocrest.webhook.util.DiscordLimits;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+
+public class WebhookClientBuilder {
+    private static final int DEFAULT_PIPELINE_DEPTH = 5;
+
+    Executor executor;
+    HttpClient httpClient;
+    ScheduledExecutorService scheduler;
+    ObjectMapper objectMapper;
+    WebhookSerializer serializer;
+    Duration connectTimeout;
+    Duration requestTimeout;
+    RetryPolicy retryPolicy;
+    RateLimitPolicy rateLimitPolicy;
+    CircuitBreakerPolicy circuitBreakerPolicy;
+    ConnectionPolicy connectionPolicy;
+    ExecutionMode executionMode;
+    DeliveryQueuePolicy deliveryQueuePolicy;
+    int preparedCacheSize;
+    int messageIdCacheSize;
+    long maxUploadSize;
+    boolean autoSplit;
+    int orderedPipelineDepth;
+    URI baseUri;
+    WebhookMetrics metrics;
+
+    public WebhookClientBuilder() {
+        this.connectTimeout = Duration.ofSeconds(10);
+        this.requestTimeout = Duration.ofSeconds(10);
+        this.retryPolicy = RetryPolicy.defaultPolicy();
+        this.rateLimitPolicy = RateLimitPolicy.discordDefaults();
+        this.circuitBreakerPolicy = CircuitBreakerPolicy.defaultPolicy();
+        this.connectionPolicy = ConnectionPolicy.defaultPolicy();
+        this.executionMode = ExecutionMode.ASYNC;
+        this.deliveryQueuePolicy = DeliveryQueuePolicy.defaultPolicy();
+        this.preparedCacheSize = 256;
+        this.messageIdCacheSize = 1024;
+        this.maxUploadSize = DiscordLimits.DEFAULT_MAX_UPLOAD_SIZE;
+        this.metrics = WebhookMetrics.noop();
+    }
+
+    public WebhookClientBuilder executor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    public WebhookClientBuilder httpClient(HttpClient httpClient) {
+        this.httpClient = httpClient;
+        return this;
+    }
+
+    public WebhookClientBuilder scheduler(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+        return this;
+    }
+
+    public WebhookClientBuilder objectMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        return this;
+    }
+
+    public WebhookClientBuilder serializer(WebhookSerializer serializer) {
+        this.serializer = serializer;
+        return this;
+    }
+
+    public WebhookClientBuilder connectTimeout(Duration connectTimeout) {
+        this.connectTimeout = requirePositive(connectTimeout, "connectTimeout");
+        return this;
+    }
+
+    public WebhookClientBuilder requestTimeout(Duration requestTimeout) {
+        this.requestTimeout = requirePositive(requestTimeout, "requestTimeout");
+        return this;
+    }
+
+    public WebhookClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy != null ? retryPolicy : RetryPolicy.defaultPolicy();
+        return this;
+    }
+
+    public WebhookClientBuilder rateLimitPolicy(RateLimitPolicy rateLimitPolicy) {
+        this.rateLimitPolicy = rateLimitPolicy != null ? rateLimitPolicy : RateLimitPolicy.discordDefaults();
+        return this;
+    }
+
+    public WebhookClientBuilder circuitBreakerPolicy(CircuitBreakerPolicy circuitBreakerPolicy) {
+        this.circuitBreakerPolicy = circuitBreakerPolicy != null
+                ? circuitBreakerPolicy
+                : CircuitBreakerPolicy.defaultPolicy();
+        return this;
+    }
+
+    public WebhookClientBuilder connectionPolicy(ConnectionPolicy connectionPolicy) {
+        this.connectionPolicy = connectionPolicy != null ? connectionPolicy : ConnectionPolicy.defaultPolicy();
+        return this;
+    }
+
+    public WebhookClientBuilder executionMode(ExecutionMode executionMode) {
+        this.executionMode = executionMode != null ? executionMode : ExecutionMode.ASYNC;
+        return this;
+    }
+
+    public WebhookClientBuilder virtualThreads() {
+        return executionMode(ExecutionMode.VIRTUAL_THREADS);
+    }
+
+    public WebhookClientBuilder deliveryQueue(DeliveryQueuePolicy deliveryQueuePolicy) {
+        this.deliveryQueuePolicy = deliveryQueuePolicy != null
+                ? deliveryQueuePolicy
+                : DeliveryQueuePolicy.defaultPolicy();
+        return this;
+    }
+
+    public WebhookClientBuilder deliveryQueue(int capacity, OverflowPolicy overflowPolicy) {
+        return deliveryQueue(new DeliveryQueuePolicy(capacity, deliveryQueuePolicy.maxConcurrency(), overflowPolicy));
+    }
+
+    public WebhookClientBuilder preparedCacheSize(int preparedCacheSize) {
+        if (preparedCacheSize < 1) {
+            throw new IllegalArgumentException("preparedCacheSize must be at least 1");
+        }
+        this.preparedCacheSize = preparedCacheSize;
+        return this;
+    }
+
+    public WebhookClientBuilder messageIdCacheSize(int messageIdCacheSize) {
+        if (messageIdCacheSize < 1) {
+            throw new IllegalArgumentException("messageIdCacheSize must be at least 1");
+        }
+        this.messageIdCacheSize = messageIdCacheSize;
+        return this;
+    }
+
+    public WebhookClientBuilder maxUploadSize(long maxUploadSize) {
+        if (maxUploadSize < 1) {
+            throw new IllegalArgumentException("maxUploadSize must be at least 1");
+        }
+        this.maxUploadSize = maxUploadSize;
+        return this;
+    }
+
+    public WebhookClientBuilder autoSplit(boolean autoSplit) {
+        this.autoSplit = autoSplit;
+        return this;
+    }
+
+    public WebhookClientBuilder orderedDelivery(boolean orderedDelivery) {
+        this.orderedPipelineDepth = orderedDelivery ? DEFAULT_PIPELINE_DEPTH : 0;
+        return this;
+    }
+
+    public WebhookClientBuilder orderedDelivery(int pipelineDepth) {
+        if (pipelineDepth < 1) {
+            throw new IllegalArgumentException("pipelineDepth must be at least 1");
+        }
+        this.orderedPipelineDepth = pipelineDepth;
+        return this;
+    }
+
+    public WebhookClientBuilder baseUri(URI baseUri) {
+        if (baseUri == null || baseUri.toString().endsWith("/")) {
+            this.baseUri = baseUri;
+        } else {
+            this.baseUri = URI.create(baseUri + "/");
+        }
+        return this;
+    }
+
+    public WebhookClientBuilder metrics(WebhookMetrics metrics) {
+        this.metrics = metrics != null ? metrics : WebhookMetrics.noop();
+        return this;
+    }
+
+    public WebhookClient build() {
+        return new WebhookClient(this);
+    }
+
+    private static Duration requirePositive(Duration duration, String name) {
+        if (duration == null || duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException(name + " must be positive");
+        }
+        return duration;
+    }
+}
@@ -0,0 +1,170 @@
+package com.moocrest.webhook.sender;
+
+import com.moocrest.webhook.model.WebhookEmbed;
+import com.moocrest.webhook.model.WebhookMessage;
+import com.moocrest.webhook.util.DiscordLimits;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+public final class WebhookDeduplicator implements AutoCloseable {
+
+    private static final CompletableFuture<Boolean> SUPPRESSED = CompletableFuture.completedFuture(false);
+
+    private final WebhookClient client;
+    private final DedupPolicy policy;
+    private final Function<WebhookMessage, ?> keyFunction;
+    private final Map<Key, Window> windows = new ConcurrentHashMap<>();
+    private final LongAdder suppressed = new LongAdder();
+
+    public WebhookDeduplicator(WebhookClient client, DedupPolicy policy, Function<WebhookMessage, ?> keyFunction) {
+        this.client = Objects.requireNonNull(client, "client");
+        this.policy = Objects.requireNonNull(policy, "policy");
+        this.keyFunction = Objects.requireNonNull(keyFunction, "keyFunction");
+    }
+
+    public WebhookDeduplicator(WebhookClient client, DedupPolicy policy) {
+        this(client, policy, WebhookDeduplicator::contentKey);
+    }
+
+    public WebhookDeduplicator(WebhookClient client) {
+        this(client, DedupPolicy.defaultPolicy());
+    }
+
+    public CompletableFuture<Boolean> submit(String webhookUrl, WebhookMessage message) {
+        Objects.requireNonNull(message, "message");
+        return submit(webhookUrl, keyFunction.apply(message), message);
+    }
+
+    public CompletableFuture<Boolean> submit(String webhookUrl, Object key, WebhookMessage message) {
+        Objects.requireNonNull(webhookUrl, "webhookUrl");
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(message, "message");
+        Key windowKey = new Key(webhookUrl, key);
+        while (true) {
+            Window window = windows.get(windowKey);
+            if (window == null) {
+                if (windows.size() >= policy.maxKeys()) {
+                    return client.sendWebhook(webhookUrl, message);
+                }
+                Window opened = new Window(message);
+                if (windows.putIfAbsent(windowKey, opened) == null) {
+                    opened.closeTask = client.scheduler().schedule(
+                            () -> client.executor().execute(() -> close(windowKey, opened)),
+                            policy.window().toNanos(), TimeUnit.NANOSECONDS);
+                    return client.sendWebhook(webhookUrl, message);
+                }
+            } else if (window.suppress()) {
+                suppressed.increment();
+                return SUPPRESSED;
+            } else {
+                windows.remove(windowKey, window);
+            }
+        }
+    }
+
+    public long suppressedCount() {
+        return suppressed.sum();
+    }
+
+    public int trackedKeys() {
+        return windows.size();
+    }
+
+    public void flush() {
+        windows.forEach((key, window) -> {
+            ScheduledFuture<?> closeTask = window.closeTask;
+            if (closeTask != null) {
+                closeTask.cancel(false);
+            }
+            close(key, window);
+        });
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+
+    private void close(Key key, Window window) {
+        int duplicates = window.close();
+        windows.remove(key, window);
+        if (duplicates > 0 && policy.summarize()) {
+            client.sendWebhook(key.webhookUrl(), summary(window.message, duplicates + 1));
+        }
+    }
+
+    private WebhookMessage summary(WebhookMessage message, int occurrences) {
+        String line = "x" + occurrences + " in last " + describe(policy.window());
+        String content = message.content();
+        if (content == null || content.isEmpty()) {
+            content = line;
+        } else {
+            int room = DiscordLimits.MAX_CONTENT_LENGTH - line.length() - 1;
+            if (content.length() > room) {
+                int end = Character.isHighSurrogate(content.charAt(room - 1)) ? room - 1 : room;
+                content = content.substring(0, end);
+            }
+            content = content + "\n" + line;
+        }
+        return message.toBuilder()
+                .content(content)
+                .attachments(null)
+                .build();
+    }
+
+    private static WebhookMessage contentKey(WebhookMessage message) {
+        List<WebhookEmbed> embeds = message.embeds();
+        if (embeds == null || embeds.stream().allMatch(embed -> embed.timestamp() == null)) {
+            return message;
+        }
+        return message.toBuilder()
+                .embeds(embeds.stream()
+                        .map(embed -> embed.timestamp() == null ? embed : embed.toBuilder().timestamp(null).build())
+                        .toList())
+                .build();
+    }
+
+    private static String describe(Duration window) {
+        long millis = window.toMillis();
+        return millis % 1000 == 0 ? millis / 1000 + "s" : millis + "ms";
+    }
+
+    private record Key(String webhookUrl, Object key) {
+    }
+
+    private static final class Window {
+        private final WebhookMessage message;
+        private volatile ScheduledFuture<?> closeTask;
+        private int duplicates;
+        private boolean closed;
+
+        Window(WebhookMessage message) {
+            this.message = message;
+        }
+
+        synchronized boolean suppress() {
+            if (closed) {
+                return false;
+            }
+            duplicates++;
+            return true;
+        }
+
+        synchronized int close() {
+            if (closed) {
+                return 0;
+            }
+            closed = true;
+            return duplicates;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.moocrest.webhook.sender;
+
+import com.moocrest.webhook.util.WebhookEndpoint;
+
+import java.net.http.HttpHeaders;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+
+final class WebhookRateLimiter {
+
+    private static final int EVICTION_THRESHOLD = 1024;
+
+    private final ScheduledExecutorService scheduler;
+    private final int initialLimit;
+    private final long initialWindowNanos;
+    private final Map<String, RateLimitBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, RateLimitBucket> sharedBuckets = new ConcurrentHashMap<>();
+    private volatile Throwable closed;
+
+    WebhookRateLimiter(ScheduledExecutorService scheduler, RateLimitPolicy policy) {
+        this.scheduler = scheduler;
+        this.initialLimit = policy.initialLimit();
+        this.initialWindowNanos = policy.initialWindow().toNanos();
+    }
+
+    CompletableFuture<Void> acquire(WebhookEndpoint endpoint) {
+        return acquire(endpoint, DeliveryPriority.NORMAL);
+    }
+
+    CompletableFuture<Void> acquire(WebhookEndpoint endpoint, DeliveryPriority priority) {
+        return acquire(endpoint.route(), priority);
+    }
+
+    CompletableFuture<Void> acquire(String route, DeliveryPriority priority) {
+        long now = System.nanoTime();
+        if (buckets.size() > EVICTION_THRESHOLD) {
+            buckets.values().removeIf(bucket -> bucket.isIdle(now));
+            sharedBuckets.values().removeIf(bucket -> bucket.isIdle(now));
+        }
+        RateLimitBucket bucket = buckets.computeIfAbsent(route,
+                key -> new RateLimitBucket(scheduler, initialLimit, initialWindowNanos, now));
+        CompletableFuture<Void> permit = bucket.acquire(now, priority);
+        Throwable failure = closed;
+        if (failure != null) {
+            bucket.close(failure);
+        }
+        return permit;
+    }
+
+    void close(Throwable failure) {
+        closed = failure;
+        buckets.values().forEach(bucket -> bucket.close(failure));
+    }
+
+    int remaining(WebhookEndpoint endpoint) {
+        RateLimitBucket bucket = buckets.get(endpoint.route());
+        return bucket == null ? initialLimit : bucket.remaining(System.nanoTime());
+    }
+
+    void update(WebhookEndpoint endpoint, HttpHeaders headers) {
+        update(endpoint.route(), headers);
+    }
+
+    void update(String route, HttpHeaders headers) {
+        RateLimitBucket bucket = buckets.get(route);
+        if (bucket == null) {
+            return;
+        }
+        bucket.update(headers, System.nanoTime());
+        String bucketId = bucket.bucketId();
+        if (bucketId == null) {
+            return;
+        }
+        RateLimitBucket shared = sharedBuckets.putIfAbsent(bucketId + " " + majorParameter(route), bucket);
+        if (shared != null && shared != bucket && buckets.replace(route, bucket, shared)) {
+            shared.update(headers, System.nanoTime());
+            bucket.moveWaitersTo(shared);
+        }
+    }
+
+    private static String majorParameter(String route) {
+        int separator = route.indexOf(' ');
+        return separator < 0 ? route : route.substring(0, separator);
+    }
+}
@@ -0,0 +1,24 @@
+package com.moocrest.webhook.sender;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moocrest.webhook.model.WebhookMessage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface WebhookSerializer {
+
+    static WebhookSerializer streaming() {
+        return StreamingWebhookSerializer.INSTANCE;
+    }
+
+    static WebhookSerializer jackson() {
+        return new JacksonWebhookSerializer(JacksonWebhookSerializer.defaultObjectMapper());
+    }
+
+    static WebhookSerializer jackson(ObjectMapper objectMapper) {
+        return new JacksonWebhookSerializer(objectMapper);
+    }
+
+    void write(WebhookMessage message, OutputStream output) throws IOException;
+}
@@ -0,0 +1,233 @@
+package com.moocrest.webhook.util;
+
+import com.moocrest.webhook.model.WebhookEmbed;
+import com.moocrest.webhook.model.WebhookMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+public final class DiscordLimits {
+
+    public static final int MAX_CONTENT_LENGTH = 2000;
+    public static final int MAX_USERNAME_LENGTH = 80;
+    public static final int MAX_THREAD_NAME_LENGTH = 100;
+    public static final int MAX_EMBEDS = 10;
+    public static final int MAX_TOTAL_EMBED_LENGTH = 6000;
+    public static final int MAX_TITLE_LENGTH = 256;
+    public static final int MAX_DESCRIPTION_LENGTH = 4096;
+    public static final int MAX_FIELDS = 25;
+    public static final int MAX_FIELD_NAME_LENGTH = 256;
+    public static final int MAX_FIELD_VALUE_LENGTH = 1024;
+    public static final int MAX_FOOTER_LENGTH = 2048;
+    public static final int MAX_AUTHOR_NAME_LENGTH = 256;
+    public static final int MAX_ATTACHMENTS = 10;
+    public static final long DEFAULT_MAX_UPLOAD_SIZE = 10L * 1024 * 1024;
+
+    private DiscordLimits() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static int contentLength(String content) {
+        return content != null ? content.length() : 0;
+    }
+
+    public static int embedLength(WebhookEmbed embed) {
+        int length = contentLength(embed.title()) + contentLength(embed.description());
+        if (embed.footer() != null) {
+            length += contentLength(embed.footer().text());
+        }
+        if (embed.author() != null) {
+            length += contentLength(embed.author().name());
+        }
+        if (embed.fields() != null) {
+            for (WebhookEmbed.Field field : embed.fields()) {
+                length += contentLength(field.name()) + contentLength(field.value());
+            }
+        }
+        return length;
+    }
+
+    public static int embedsLength(List<WebhookEmbed> embeds) {
+        if (embeds == null) {
+            return 0;
+        }
+        int length = 0;
+        for (WebhookEmbed embed : embeds) {
+            length += embedLength(embed);
+        }
+        return length;
+    }
+
+    public static LimitViolation check(WebhookMessage message) {
+        return check(message, DiscordLimits::contentLength);
+    }
+
+    public static LimitViolation check(WebhookMessage message, ToIntFunction<String> length) {
+        int content = length.applyAsInt(message.content());
+        if (content > MAX_CONTENT_LENGTH) {
+            return new LimitViolation("content", content, MAX_CONTENT_LENGTH);
+        }
+        int username = length.applyAsInt(message.username());
+        if (username > MAX_USERNAME_LENGTH) {
+            return new LimitViolation("username", username, MAX_USERNAME_LENGTH);
+        }
+        int threadName = length.applyAsInt(message.threadName());
+        if (threadName > MAX_THREAD_NAME_LENGTH) {
+            return new LimitViolation("thread_name", threadName, MAX_THREAD_NAME_LENGTH);
+        }
+        List<WebhookEmbed> embeds = message.embeds();
+        if (embeds == null) {
+            return null;
+        }
+        if (embeds.size() > MAX_EMBEDS) {
+            return new LimitViolation("embeds", embeds.size(), MAX_EMBEDS);
+        }
+        int total = 0;
+        for (int i = 0; i < embeds.size(); i++) {
+            WebhookEmbed embed = embeds.get(i);
+            int title = length.applyAsInt(embed.title());
+            if (title > MAX_TITLE_LENGTH) {
+                return new LimitViolation("embeds[" + i + "].title", title, MAX_TITLE_LENGTH);
+            }
+            int description = length.applyAsInt(embed.description());
+            if (description > MAX_DESCRIPTION_LENGTH) {
+                return new LimitViolation("embeds[" + i + "].description", description, MAX_DESCRIPTION_LENGTH);
+            }
+            total += title + description;
+            if (embed.footer() != null) {
+                int footer = length.applyAsInt(embed.footer().text());
+                if (footer > MAX_FOOTER_LENGTH) {
+                    return new LimitViolation("embeds[" + i + "].footer.text", footer, MAX_FOOTER_LENGTH);
+                }
+                total += footer;
+            }
+            if (embed.author() != null) {
+                int author = length.applyAsInt(embed.author().name());
+                if (author > MAX_AUTHOR_NAME_LENGTH) {
+                    return new LimitViolation("embeds[" + i + "].author.name", author, MAX_AUTHOR_NAME_LENGTH);
+                }
+                total += author;
+            }
+            List<WebhookEmbed.Field> fields = embed.fields();
+            if (fields != null) {
+                if (fields.size() > MAX_FIELDS) {
+                    return new LimitViolation("embeds[" + i + "].fields", fields.size(), MAX_FIELDS);
+                }
+                for (int j = 0; j < fields.size(); j++) {
+                    int name = length.applyAsInt(fields.get(j).name());
+                    if (name > MAX_FIELD_NAME_LENGTH) {
+                        return new LimitViolation("embeds[" + i + "].fields[" + j + "].name", name,
+                                MAX_FIELD_NAME_LENGTH);
+                    }
+                    int value = length.applyAsInt(fields.get(j).value());
+                    if (value > MAX_FIELD_VALUE_LENGTH) {
+                        return new LimitViolation("embeds[" + i + "].fields[" + j + "].value", value,
+                                MAX_FIELD_VALUE_LENGTH);
+                    }
+                    total += name + value;
+                }
+            }
+        }
+        if (total > MAX_TOTAL_EMBED_LENGTH) {
+            return new LimitViolation("embeds (total text)", total, MAX_TOTAL_EMBED_LENGTH);
+        }
+        return null;
+    }
+
+    public static List<WebhookMessage> split(WebhookMessage message) {
+        LimitViolation violation = check(message);
+        if (violation == null) {
+            return List.of(message);
+        }
+        if (message.threadName() != null) {
+            throw WebhookException.limitExceeded(violation);
+        }
+
+        List<WebhookMessage> parts = new ArrayList<>();
+        for (String chunk : splitContent(message.content())) {
+            parts.add(part(message, chunk, null));
+        }
+        List<List<WebhookEmbed>> groups = groupEmbeds(message.embeds());
+        for (int i = 0; i < groups.size(); i++) {
+            if (i == 0 && !parts.isEmpty()) {
+                int last = parts.size() - 1;
+                parts.set(last, part(message, parts.get(last).content(), groups.get(0)));
+            } else {
+                parts.add(part(message, null, groups.get(i)));
+            }
+        }
+        if (message.attachments() != null && !parts.isEmpty()) {
+            parts.set(0, parts.get(0).toBuilder().attachments(message.attachments()).build());
+        }
+
+        for (WebhookMessage part : parts) {
+            LimitViolation remaining = check(part);
+            if (remaining != null) {
+                throw WebhookException.limitExceeded(remaining);
+            }
+        }
+        return List.copyOf(parts);
+    }
+
+    private static WebhookMessage part(WebhookMessage message, String content, List<WebhookEmbed> embeds) {
+        return new WebhookMessage(content, message.username(), message.avatarUrl(), embeds, null,
+                message.flags(), null);
+    }
+
+    private static List<String> splitContent(String content) {
+        if (content == null || content.isEmpty()) {
+            return List.of();
+        }
+        List<String> chunks = new ArrayList<>();
+        int start = 0;
+        while (content.length() - start > MAX_CONTENT_LENGTH) {
+            int end = start + MAX_CONTENT_LENGTH;
+            if (Character.isHighSurrogate(content.charAt(end - 1))) {
+                end--;
+            }
+            int cut = lastBreak(content, start, end);
+            if (cut > start) {
+                chunks.add(content.substring(start, cut));
+                start = cut + 1;
+            } else {
+                chunks.add(content.substring(start, end));
+                start = end;
+            }
+        }
+        if (start < content.length()) {
+            chunks.add(content.substring(start));
+        }
+        return chunks;
+    }
+
+    private static int lastBreak(String content, int start, int end) {
+        int newline = content.lastIndexOf('\n', end);
+        if (newline > start && newline <= end) {
+            return newline;
+        }
+        int space = content.lastIndexOf(' ', end);
+        return space > start && space <= end ? space : -1;
+    }
+
+    private static List<List<WebhookEmbed>> groupEmbeds(List<WebhookEmbed> embeds) {
+        if (embeds == null || embeds.isEmpty()) {
+            return List.of();
+        }
+        List<List<WebhookEmbed>> groups = new ArrayList<>();
+        List<WebhookEmbed> group = new ArrayList<>();
+        int groupLength = 0;
+        for (WebhookEmbed embed : embeds) {
+            int length = embedLength(embed);
+            if (!group.isEmpty() && (group.size() == MAX_EMBEDS || groupLength + length > MAX_TOTAL_EMBED_LENGTH)) {
+                groups.add(group);
+                group = new ArrayList<>();
+                groupLength = 0;
+            }
+            group.add(embed);
+            groupLength += length;
+        }
+        groups.add(group);
+        return groups;
+    }
+}
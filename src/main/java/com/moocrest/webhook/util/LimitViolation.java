@@ -0,0 +1,11 @@
+package com.moocrest.webhook.util;
+
+public record LimitViolation(
+        String field,
+        int length,
+        int limit) {
+
+    public String describe() {
+        return field + " is " + length + " long, the limit is " + limit;
+    }
+}
@@ -0,0 +1,197 @@
+package com.moocrest.webhook.util;
+
+import java.net.URI;
+import java.util.Optional;
+
+public final class WebhookEndpoint {
+
+    private static final String SCHEME = "https://";
+    private static final String[] HOSTS = {"discord.com", "discordapp.com"};
+    private static final String WEBHOOK_PATH = "/api/webhooks/";
+
+    private final String url;
+    private final String id;
+    private final String token;
+    private final String route;
+    private final boolean waitForMessage;
+    private final String threadId;
+    private final URI uri;
+
+    private WebhookEndpoint(String url, String id, String token, boolean waitForMessage, String threadId) {
+        this.url = url;
+        this.id = id;
+        this.token = token;
+        this.route = id + "/" + token;
+        this.waitForMessage = waitForMessage;
+        this.threadId = threadId;
+        this.uri = URI.create(url);
+    }
+
+    public static WebhookEndpoint of(String webhookUrl) {
+        return parse(webhookUrl);
+    }
+
+    public static WebhookEndpoint parse(String webhookUrl) {
+        WebhookEndpoint endpoint = tryParse(webhookUrl);
+        if (endpoint == null) {
+            throw WebhookException.invalidUrl(webhookUrl);
+        }
+        return endpoint;
+    }
+
+    static WebhookEndpoint tryParse(String webhookUrl) {
+        if (webhookUrl == null) {
+            return null;
+        }
+        int start = 0;
+        int end = webhookUrl.length();
+        while (start < end && webhookUrl.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && webhookUrl.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (!webhookUrl.regionMatches(true, start, SCHEME, 0, SCHEME.length())) {
+            return null;
+        }
+        int position = start + SCHEME.length();
+        int hostEnd = matchHost(webhookUrl, position);
+        if (hostEnd < 0 || !webhookUrl.regionMatches(true, hostEnd, WEBHOOK_PATH, 0, WEBHOOK_PATH.length())) {
+            return null;
+        }
+
+        int idStart = hostEnd + WEBHOOK_PATH.length();
+        position = idStart;
+        while (position < end && isDigit(webhookUrl.charAt(position))) {
+            position++;
+        }
+        if (position == idStart || position >= end || webhookUrl.charAt(position) != '/') {
+            return null;
+        }
+        int idEnd = position;
+
+        int tokenStart = ++position;
+        while (position < end && isTokenChar(webhookUrl.charAt(position))) {
+            position++;
+        }
+        if (position == tokenStart) {
+            return null;
+        }
+        int tokenEnd = position;
+
+        boolean waitForMessage = false;
+        String threadId = null;
+        if (position < end) {
+            if (webhookUrl.charAt(position) != '?') {
+                return null;
+            }
+            int paramStart = ++position;
+            int separator = -1;
+            while (position <= end) {
+                char c = position < end ? webhookUrl.charAt(position) : '&';
+                if (c == '&') {
+                    int valueStart = separator < 0 ? position : separator + 1;
+                    String key = webhookUrl.substring(paramStart, separator < 0 ? position : separator);
+                    if ("wait".equals(key)) {
+                        waitForMessage = webhookUrl.regionMatches(true, valueStart, "true", 0, 4)
+                                && position - valueStart == 4;
+                    } else if ("thread_id".equals(key)) {
+                        threadId = webhookUrl.substring(valueStart, position);
+                    }
+                    paramStart = position + 1;
+                    separator = -1;
+                } else if (c == '=') {
+                    if (separator < 0) {
+                        separator = position;
+                    }
+                } else if (c == '%') {
+                    if (position + 2 >= end || !isHexDigit(webhookUrl.charAt(position + 1))
+                            || !isHexDigit(webhookUrl.charAt(position + 2))) {
+                        return null;
+                    }
+                    position += 2;
+                } else if (!isTokenChar(c)) {
+                    return null;
+                }
+                position++;
+            }
+        }
+
+        String url = start == 0 && end == webhookUrl.length() ? webhookUrl : webhookUrl.substring(start, end);
+        return new WebhookEndpoint(url,
+                webhookUrl.substring(idStart, idEnd),
+                webhookUrl.substring(tokenStart, tokenEnd),
+                waitForMessage,
+                threadId);
+    }
+
+    public String url() {
+        return url;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public String token() {
+        return token;
+    }
+
+    public String route() {
+        return route;
+    }
+
+    public boolean waitForMessage() {
+        return waitForMessage;
+    }
+
+    public Optional<String> threadId() {
+        return Optional.ofNullable(threadId);
+    }
+
+    public URI uri() {
+        return uri;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof WebhookEndpoint that)) {
+            return false;
+        }
+        return url.equals(that.url);
+    }
+
+    @Override
+    public int hashCode() {
+        return url.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "WebhookEndpoint{id='" + id + "', url='" + SCHEME + uri.getHost() + WEBHOOK_PATH + id + "/***'}";
+    }
+
+    private static int matchHost(String url, int position) {
+        for (String host : HOSTS) {
+            if (url.regionMatches(true, position, host, 0, host.length())) {
+                return position + host.length();
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isHexDigit(char c) {
+        return isDigit(c) || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F';
+    }
+
+    private static boolean isTokenChar(char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || isDigit(c) || c == '_' || c == '-';
+    }
+}
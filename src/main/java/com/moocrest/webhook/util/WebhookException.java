@@ -1,17 +1,54 @@
 package com.moocrest.webhook.util;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
 public class WebhookException extends RuntimeException {
 
+    private final int statusCode;
+    private final Duration retryAfter;
+    private final boolean permanent;
+
     public WebhookException(String message) {
-        super(message);
+        this(message, null, 0, null);
     }
 
     public WebhookException(String message, Throwable cause) {
-        super(message, cause);
+        this(message, cause, 0, null);
     }
 
     public WebhookException(Throwable cause) {
         super(cause);
+        this.statusCode = 0;
+        this.retryAfter = null;
+        this.permanent = false;
+    }
+
+    public WebhookException(String message, Throwable cause, int statusCode, Duration retryAfter) {
+        super(message, cause);
+        this.statusCode = statusCode;
+        this.retryAfter = retryAfter;
+        this.permanent = false;
+    }
+
+    private WebhookException(String message, boolean permanent) {
+        super(message);
+        this.statusCode = 0;
+        this.retryAfter = null;
+        this.permanent = permanent;
+    }
+
+    public int statusCode() {
+        return statusCode;
+    }
+
+    public Optional<Duration> retryAfter() {
+        return Optional.ofNullable(retryAfter);
+    }
+
+    public boolean isPermanent() {
+        return permanent;
     }
 
     public static WebhookException invalidUrl(String url) {
@@ -19,7 +56,12 @@ public class WebhookException extends RuntimeException {
     }
 
     public static WebhookException httpError(int statusCode, String responseBody) {
-        return new WebhookException("HTTP error " + statusCode + ": " + responseBody);
+        return new WebhookException("HTTP error " + statusCode + ": " + responseBody, null, statusCode, null);
+    }
+
+    public static WebhookException rateLimited(Duration retryAfter, String responseBody) {
+        return new WebhookException("Rate limited, retry after " + retryAfter.toMillis() + "ms: " + responseBody,
+                null, 429, retryAfter);
     }
 
     public static WebhookException timeout(String url) {
@@ -33,4 +75,50 @@ public class WebhookException extends RuntimeException {
     public static WebhookException networkError(String url, Throwable cause) {
         return new WebhookException("Network error for webhook URL: " + url, cause);
     }
-}
\ No newline at end of file
+
+    public static WebhookException invalidResponse(Throwable cause) {
+        return new WebhookException("Failed to read webhook response", cause);
+    }
+
+    public static WebhookException dropped() {
+        return new WebhookException("Request was dropped by the delivery queue");
+    }
+
+    public static WebhookException clientClosed() {
+        return new WebhookException("Webhook client is closed");
+    }
+
+    public static WebhookException queueFull(int capacity) {
+        return new WebhookException("Delivery queue is full (capacity " + capacity + ")");
+    }
+
+    public static WebhookException circuitOpen(String webhookId, boolean permanent) {
+        return new WebhookException(permanent
+                ? "Webhook " + webhookId + " is gone or unauthorized; circuit breaker is permanently open"
+                : "Circuit breaker is open for webhook " + webhookId, permanent);
+    }
+
+    public static WebhookException storageError(Path path, Throwable cause) {
+        return new WebhookException("Outbox storage error in " + path, cause);
+    }
+
+    public static WebhookException limitExceeded(LimitViolation violation) {
+        return new WebhookException("Message exceeds Discord limits: " + violation.describe(), null, 400, null);
+    }
+
+    public static WebhookException tooManyAttachments(int count, int limit) {
+        return new WebhookException("Message has " + count + " attachments, the limit is " + limit);
+    }
+
+    public static WebhookException attachmentsTooLarge(long size, long limit) {
+        return new WebhookException("Attachments total " + size + " bytes, the upload limit is " + limit + " bytes");
+    }
+
+    public static WebhookException attachmentUnreadable(Path path, Throwable cause) {
+        return new WebhookException("Cannot read attachment " + path, cause);
+    }
+
+    public static WebhookException retriesExhausted(int attempts, Throwable cause) {
+        return new WebhookException("Failed to send webhook after " + attempts + " attempts", cause);
+    }
+}
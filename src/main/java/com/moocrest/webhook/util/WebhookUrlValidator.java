@@ -1,36 +1,17 @@
 package com.moocrest.webhook.util;
 
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.util.regex.Pattern;
-
 public final class WebhookUrlValidator {
 
-    private static final Pattern DISCORD_WEBHOOK_PATTERN = Pattern.compile(
-            "^https://discord(?:app)?\\.com/api/webhooks/\\d+/[\\w-]+(?:\\?[\\w&=%-]*)?$",
-            Pattern.CASE_INSENSITIVE);
-
     private WebhookUrlValidator() {
         throw new UnsupportedOperationException("Utility class");
     }
 
     public static boolean isValid(String webhookUrl) {
-        if (webhookUrl == null || webhookUrl.trim().isEmpty()) {
-            return false;
-        }
-
-        try {
-            new URL(webhookUrl);
-            return DISCORD_WEBHOOK_PATTERN.matcher(webhookUrl.trim()).matches();
-        } catch (MalformedURLException e) {
-            return false;
-        }
+        return WebhookEndpoint.tryParse(webhookUrl) != null;
     }
 
     public static void validate(String webhookUrl) {
-        if (!isValid(webhookUrl)) {
-            throw WebhookException.invalidUrl(webhookUrl);
-        }
+        WebhookEndpoint.parse(webhookUrl);
     }
 
     public static String normalize(String webhookUrl) {
@@ -38,8 +19,6 @@ public final class WebhookUrlValidator {
             return null;
         }
 
-        String normalized = webhookUrl.trim();
-        validate(normalized);
-        return normalized;
+        return WebhookEndpoint.parse(webhookUrl).url();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,111 @@
+package com.moocrest.webhook;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moocrest.webhook.builder.WebhookBuilder;
+import com.moocrest.webhook.model.WebhookAttachment;
+import com.moocrest.webhook.model.WebhookMessage;
+import com.moocrest.webhook.sender.WebhookClient;
+import com.moocrest.webhook.testing.RecordedRequest;
+import com.moocrest.webhook.testing.StubDiscordServer;
+import com.moocrest.webhook.util.WebhookException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebhookAttachmentTest {
+
+    @Test
+    void testBuilderNumbersAttachmentsAndKeepsPathsOutOfJson() throws Exception {
+        Path directory = Files.createTempDirectory("crest-attachments");
+        WebhookMessage message = WebhookMessage.builder()
+                .content("Crash report")
+                .addAttachment(directory.resolve("latest.log"))
+                .addAttachment(WebhookAttachment.of(directory.resolve("dump.bin"), "heap.bin")
+                        .withDescription("heap dump"))
+                .build();
+
+        assertEquals(0, message.attachments().get(0).id());
+        assertEquals(1, message.attachments().get(1).id());
+        assertEquals("application/octet-stream", message.attachments().get(0).contentType());
+        assertEquals("text/plain", WebhookAttachment.of(directory.resolve("notes.txt")).contentType());
+
+        String json = new ObjectMapper().writeValueAsString(message);
+        assertTrue(json.contains("\"attachments\":[{\"id\":0,\"filename\":\"latest.log\"},"
+                + "{\"id\":1,\"filename\":\"heap.bin\",\"description\":\"heap dump\"}]"));
+        assertFalse(json.contains(directory.toString()));
+    }
+
+    @Test
+    void testStreamsFilesAsMultipartUpload() throws Exception {
+        Path directory = Files.createTempDirectory("crest-attachments");
+        Path log = Files.writeString(directory.resolve("latest.log"), "line one\nline two\n");
+        Path dump = directory.resolve("crash.dump");
+        Files.write(dump, new byte[3 * 1024 * 1024]);
+
+        try (StubDiscordServer server = StubDiscordServer.start();
+                WebhookClient client = server.clientBuilder().build()) {
+            WebhookMessage message = WebhookMessage.builder()
+                    .content("Server crashed")
+                    .addAttachment(log)
+                    .addAttachment(dump)
+                    .build();
+
+            assertTrue(client.sendWebhook(server.webhookUrl(1), message).join());
+
+            RecordedRequest request = server.lastRequest();
+            assertTrue(request.isMultipart());
+            assertEquals(Map.of("latest.log", 18L, "crash.dump", 3L * 1024 * 1024), request.files());
+            assertTrue(request.body().contains("\"content\":\"Server crashed\""));
+            assertTrue(request.body().contains("\"filename\":\"crash.dump\""));
+        }
+    }
+
+    @Test
+    void testRejectsOversizedUploadsBeforeSending() throws Exception {
+        Path directory = Files.createTempDirectory("crest-attachments");
+        Path file = Files.write(directory.resolve("big.bin"), new byte[2048]);
+
+        try (StubDiscordServer server = StubDiscordServer.start();
+                WebhookClient client = server.clientBuilder().maxUploadSize(1024).build()) {
+            WebhookMessage message = WebhookMessage.builder().addAttachment(file).build();
+
+            CompletionException error = assertThrows(CompletionException.class,
+                    () -> client.sendWebhook(server.webhookUrl(1), message).join());
+
+            assertInstanceOf(WebhookException.class, error.getCause());
+            assertTrue(error.getCause().getMessage().contains("upload limit"));
+            assertEquals(0, server.requestCount());
+        }
+    }
+
+    @Test
+    void testRejectsMissingAndTooManyFiles() throws Exception {
+        Path directory = Files.createTempDirectory("crest-attachments");
+        Path file = Files.writeString(directory.resolve("note.txt"), "note");
+
+        try (StubDiscordServer server = StubDiscordServer.start();
+                WebhookClient client = server.clientBuilder().build()) {
+            WebhookMessage missing = WebhookMessage.builder()
+                    .addAttachment(directory.resolve("missing.txt"))
+                    .build();
+            CompletionException error = assertThrows(CompletionException.class,
+                    () -> client.sendWebhook(server.webhookUrl(1), missing).join());
+            assertTrue(error.getCause().getMessage().contains("missing.txt"));
+
+            WebhookBuilder builder = WebhookMessage.builder();
+            for (int i = 0; i < 11; i++) {
+                builder.addAttachment(file);
+            }
+            WebhookMessage tooMany = builder.build();
+            error = assertThrows(CompletionException.class,
+                    () -> client.sendWebhook(server.webhookUrl(1), tooMany).join());
+            assertTrue(error.getCause().getMessage().contains("11 attachments"));
+            assertEquals(0, server.requestCount());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.moocrest.webhook;
+
+import com.moocrest.webhook.model.WebhookMessage;
+import com.moocrest.webhook.sender.BroadcastResult;
+import com.moocrest.webhook.sender.RetryPolicy;
+import com.moocrest.webhook.sender.WebhookClient;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebhookBroadcastTest {
+
+    private final AtomicInteger received = new AtomicInteger();
+    private final Set<String> bodies = ConcurrentHashMap.newKeySet();
+    private final ExecutorService serverExecutor = Executors.newCachedThreadPool();
+    private HttpServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/webhooks/", exchange -> {
+            bodies.add(new String(exchange.getRequestBody().readAllBytes()));
+            received.incrementAndGet();
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            int status = exchange.getRequestURI().getPath().contains("/404/") ? 404 : 204;
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        server.setExecutor(serverExecutor);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void testReportsResultPerUrl() {
+        String delivered = "https://discord.com/api/webhooks/1/token";
+        String missing = "https://discord.com/api/webhooks/404/token";
+        String invalid = "https://example.com/webhook";
+
+        try (WebhookClient client = client()) {
+            BroadcastResult result = client.sendToAll(List.of(delivered, missing, invalid, delivered),
+                    WebhookMessage.builder().content("Server restarting").build()).join();
+
+            assertEquals(List.of(delivered, missing, invalid), new ArrayList<>(result.delivered().keySet()));
+            assertTrue(result.isDelivered(delivered));
+            assertFalse(result.isDelivered(missing));
+            assertFalse(result.isDelivered(invalid));
+            assertFalse(result.allDelivered());
+            assertEquals(1, result.deliveredCount());
+            assertEquals(List.of(missing, invalid), result.undelivered());
+            assertTrue(result.failure(delivered).isEmpty());
+            assertTrue(result.failure(missing).isPresent());
+            assertTrue(result.failure(invalid).isPresent());
+            assertEquals(2, received.get());
+        }
+    }
+
+    @Test
+    void testSendsConcurrentlyWithOneSerializedBody() {
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            urls.add("https://discord.com/api/webhooks/" + (1000 + i) + "/token");
+        }
+
+        try (WebhookClient client = client()) {
+            long start = System.nanoTime();
+            BroadcastResult result = client.sendToAll(urls,
+                    WebhookMessage.builder().content("Maintenance in 5 minutes").build()).join();
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            assertTrue(result.allDelivered());
+            assertEquals(50, result.deliveredCount());
+            assertEquals(50, received.get());
+            assertEquals(Set.of("{\"content\":\"Maintenance in 5 minutes\"}"), bodies);
+            assertTrue(elapsedMillis < 5_000, "broadcast took " + elapsedMillis + "ms");
+        }
+    }
+
+    private WebhookClient client() {
+        return WebhookClient.builder()
+                .baseUri(URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/api/"))
+                .retryPolicy(RetryPolicy.noRetries())
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.moocrest.webhook;
+
+import com.moocrest.webhook.builder.EmbedPartInterner;
+import com.moocrest.webhook.builder.WebhookBuilder;
+import com.moocrest.webhook.builder.WebhookEmbedBuilder;
+import com.moocrest.webhook.model.WebhookEmbed;
+import com.moocrest.webhook.model.WebhookMessage;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebhookBuilderTest {
+
+    @Test
+    void testBuiltListsAreImmutableSnapshots() {
+        List<WebhookEmbed> embeds = new ArrayList<>();
+        embeds.add(WebhookEmbed.builder().title("first").build());
+        WebhookBuilder builder = WebhookMessage.builder().embeds(embeds);
+
+        WebhookMessage message = builder.build();
+        embeds.add(WebhookEmbed.builder().title("second").build());
+        builder.addEmbed(WebhookEmbed.builder().title("third").build());
+
+        assertEquals(1, message.embeds().size());
+        assertThrows(UnsupportedOperationException.class,
+                () -> message.embeds().add(WebhookEmbed.builder().build()));
+        assertThrows(UnsupportedOperationException.class,
+                () -> message.embeds().get(0).toBuilder().addField("a", "b").build().fields().clear());
+    }
+
+    @Test
+    void testListSettersCopyTheCallersList() {
+        List<WebhookEmbed> embeds = new ArrayList<>();
+        embeds.add(WebhookEmbed.builder().title("first").build());
+        List<WebhookEmbed.Field> fields = new ArrayList<>();
+        fields.add(new WebhookEmbed.Field("name", "value", false));
+        WebhookBuilder builder = WebhookMessage.builder().embeds(embeds);
+        WebhookEmbedBuilder embedBuilder = WebhookEmbed.builder().fields(fields);
+
+        embeds.add(WebhookEmbed.builder().title("second").build());
+        fields.clear();
+
+        assertEquals(1, builder.build().embeds().size());
+        assertEquals(1, embedBuilder.build().fields().size());
+    }
+
+    @Test
+    void testNullListElementsAreSkipped() {
+        WebhookEmbed embed = WebhookEmbed.builder().title("first").build();
+        WebhookEmbed.Field field = new WebhookEmbed.Field("name", "value", false);
+
+        assertEquals(List.of(embed), WebhookMessage.builder().embeds(Arrays.asList(null, embed)).build().embeds());
+        assertEquals(List.of(field), WebhookEmbed.builder().fields(Arrays.asList(field, null)).build().fields());
+        assertEquals(List.of(embed),
+                new WebhookMessage("hi", null, null, Arrays.asList(embed, null), null, null).embeds());
+        assertEquals(List.of(field), new WebhookEmbed(null, null, null, null, null, null, null, null, null,
+                Arrays.asList(null, field)).fields());
+    }
+
+    @Test
+    void testConstructorWithoutAttachments() {
+        WebhookMessage message = new WebhookMessage("hi", "Bot", null, null, null, 4);
+
+        assertNull(message.attachments());
+        assertEquals(WebhookMessage.builder().content("hi").username("Bot").flags(4).build(), message);
+    }
+
+    @Test
+    void testToBuilderSharesUnchangedLists() {
+        WebhookMessage original = WebhookMessage.builder()
+                .content("original")
+                .addEmbed(WebhookEmbed.builder().title("embed").addField("name", "value").build())
+                .build();
+
+        WebhookMessage edited = original.toBuilder().content("edited").build();
+        WebhookEmbed embed = original.embeds().get(0);
+
+        assertSame(original.embeds(), edited.embeds());
+        assertSame(embed.fields(), embed.toBuilder().title("renamed").build().fields());
+        assertEquals(2, original.toBuilder().addEmbed(embed).build().embeds().size());
+        assertEquals(1, original.embeds().size());
+    }
+
+    @Test
+    void testResetClearsBuilderForReuse() {
+        WebhookBuilder builder = WebhookMessage.builder();
+        WebhookEmbedBuilder embedBuilder = WebhookEmbed.builder();
+
+        WebhookMessage first = builder.content("first").username("bot")
+                .addEmbed(embedBuilder.title("one").addField("a", "1").build())
+                .build();
+        WebhookMessage second = builder.reset().content("second")
+                .addEmbed(embedBuilder.reset().description("two").build())
+                .build();
+
+        assertEquals("bot", first.username());
+        assertEquals(1, first.embeds().get(0).fields().size());
+        assertNull(second.username());
+        assertEquals(1, second.embeds().size());
+        assertNull(second.embeds().get(0).title());
+        assertNull(second.embeds().get(0).fields());
+    }
+
+    @Test
+    void testInternerSharesRepeatedParts() {
+        EmbedPartInterner interner = new EmbedPartInterner(2);
+
+        WebhookEmbed first = WebhookEmbed.builder().interner(interner)
+                .footer("Survival #1", "https://example.com/icon.png")
+                .author("Server")
+                .build();
+        WebhookEmbed second = WebhookEmbed.builder().interner(interner)
+                .footer("Survival #1", "https://example.com/icon.png")
+                .author("Server")
+                .thumbnail("https://example.com/thumb.png")
+                .build();
+
+        assertSame(first.footer(), second.footer());
+        assertSame(first.author(), second.author());
+        assertEquals(2, interner.size());
+        assertEquals("https://example.com/thumb.png", second.thumbnail().url());
+        assertNotSame(second.thumbnail(), interner.thumbnail("https://example.com/thumb.png"));
+    }
+}
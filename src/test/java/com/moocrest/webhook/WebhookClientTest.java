@@ -0,0 +1,55 @@
+package com.moocrest.webhook;
+
+import com.moocrest.webhook.model.WebhookMessage;
+import com.moocrest.webhook.sender.ConnectionPolicy;
+import com.moocrest.webhook.sender.RetryPolicy;
+import com.moocrest.webhook.sender.WebhookClient;
+import com.moocrest.webhook.sender.WebhookSender;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebhookClientTest {
+
+    @Test
+    void testClientUsesConfiguredExecutor() {
+        AtomicInteger tasks = new AtomicInteger();
+        Executor countingExecutor = task -> {
+            tasks.incrementAndGet();
+            task.run();
+        };
+
+        try (WebhookClient client = WebhookClient.builder()
+                .executor(countingExecutor)
+                .retryPolicy(RetryPolicy.noRetries())
+                .build()) {
+            CompletableFuture<Boolean> future = client.sendWebhook("invalid-url",
+                    WebhookMessage.builder().content("Test message").build());
+
+            assertThrows(Exception.class, future::join);
+            assertTrue(tasks.get() > 0);
+        }
+    }
+
+    @Test
+    void testClientsAreIndependent() {
+        try (WebhookClient first = WebhookClient.builder().build();
+                WebhookClient second = WebhookClient.builder().requestTimeout(Duration.ofSeconds(30)).build()) {
+            assertNotSame(first, second);
+            assertNotSame(first, WebhookSender.defaultClient());
+        }
+    }
+
+    @Test
+    void testBuilderRejectsInvalidTimeouts() {
+        assertThrows(IllegalArgumentException.class, () -> WebhookClient.builder().requestTimeout(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> WebhookClient.builder().connectTimeout(null));
+        assertThrows(IllegalArgumentException.class, () -> RetryPolicy.exponential(0, Duration.ZERO, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> ConnectionPolicy.keepAlive(Duration.ofMinutes(5)));
+    }
+}
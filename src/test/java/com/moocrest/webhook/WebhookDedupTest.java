@@ -0,0 +1,126 @@
+package com.moocrest.webhook;
+
+import com.moocrest.webhook.model.WebhookEmbed;
+import com.moocrest.webhook.model.WebhookMessage;
+import com.moocrest.webhook.sender.DedupPolicy;
+import com.moocrest.webhook.sender.WebhookClient;
+import com.moocrest.webhook.sender.WebhookDeduplicator;
+import com.moocrest.webhook.testing.RecordedRequest;
+import com.moocrest.webhook.testing.StubDiscordServer;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebhookDedupTest {
+
+    @Test
+    void testSuppressesDuplicatesAndSendsSummary() throws Exception {
+        try (StubDiscordServer server = StubDiscordServer.start();
+                WebhookClient client = server.clientBuilder().build()) {
+            WebhookDeduplicator deduplicator = new WebhookDeduplicator(client,
+                    new DedupPolicy(Duration.ofSeconds(4)));
+            WebhookMessage alert = WebhookMessage.builder().content("Database unreachable").build();
+            String webhookUrl = server.webhookUrl(1);
+
+            assertTrue(deduplicator.submit(webhookUrl, alert).join());
+            for (int i = 0; i < 99; i++) {
+                assertFalse(deduplicator.submit(webhookUrl, alert).join());
+            }
+            assertEquals(99, deduplicator.suppressedCount());
+            assertEquals(1, server.requestCount());
+
+            waitFor(() -> server.requestCount() == 2);
+            RecordedRequest summary = server.lastRequest();
+            assertTrue(summary.body().contains("Database unreachable\\nx100 in last 4s"));
+            assertEquals(0, deduplicator.trackedKeys());
+
+            assertTrue(deduplicator.submit(webhookUrl, alert).join());
+            assertEquals(3, server.requestCount());
+        }
+    }
+
+    @Test
+    void testDefaultKeyIgnoresEmbedTimestamps() throws Exception {
+        try (StubDiscordServer server = StubDiscordServer.start();
+                WebhookClient client = server.clientBuilder().build()) {
+            WebhookDeduplicator deduplicator = new WebhookDeduplicator(client,
+                    new DedupPolicy(Duration.ofSeconds(30), 100, false));
+            String webhookUrl = server.webhookUrl(1);
+
+            assertTrue(deduplicator.submit(webhookUrl, timestamped("Node down", 0)).join());
+            assertFalse(deduplicator.submit(webhookUrl, timestamped("Node down", 1)).join());
+            assertTrue(deduplicator.submit(webhookUrl, timestamped("Node up", 2)).join());
+
+            assertEquals(1, deduplicator.suppressedCount());
+            assertEquals(2, server.requestCount());
+            deduplicator.close();
+        }
+    }
+
+    @Test
+    void testCallerKeyAndWebhookScopeTheWindow() throws Exception {
+        try (StubDiscordServer server = StubDiscordServer.start();
+                WebhookClient client = server.clientBuilder().build()) {
+            WebhookDeduplicator deduplicator = new WebhookDeduplicator(client,
+                    new DedupPolicy(Duration.ofSeconds(30), 100, false));
+
+            assertTrue(deduplicator.submit(server.webhookUrl(1), "disk",
+                    WebhookMessage.builder().content("Disk at 91%").build()).join());
+            assertFalse(deduplicator.submit(server.webhookUrl(1), "disk",
+                    WebhookMessage.builder().content("Disk at 93%").build()).join());
+            assertTrue(deduplicator.submit(server.webhookUrl(2), "disk",
+                    WebhookMessage.builder().content("Disk at 93%").build()).join());
+
+            deduplicator.close();
+
+            List<String> bodies = server.requests().stream().map(RecordedRequest::body).toList();
+            assertEquals(2, bodies.size());
+            assertEquals(0, deduplicator.trackedKeys());
+        }
+    }
+
+    @Test
+    void testSendsUntrackedWhenFull() throws Exception {
+        try (StubDiscordServer server = StubDiscordServer.start();
+                WebhookClient client = server.clientBuilder().build()) {
+            WebhookDeduplicator deduplicator = new WebhookDeduplicator(client,
+                    new DedupPolicy(Duration.ofSeconds(30), 2, true), WebhookMessage::content);
+            String webhookUrl = server.webhookUrl(1);
+
+            for (int i = 0; i < 4; i++) {
+                assertTrue(deduplicator.submit(webhookUrl,
+                        WebhookMessage.builder().content("alert " + i).build()).join());
+            }
+            assertTrue(deduplicator.submit(webhookUrl,
+                    WebhookMessage.builder().content("alert 3").build()).join());
+
+            assertEquals(2, deduplicator.trackedKeys());
+            assertEquals(5, server.requestCount());
+        }
+    }
+
+    @Test
+    void testRejectsInvalidPolicy() {
+        assertThrows(IllegalArgumentException.class, () -> new DedupPolicy(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new DedupPolicy(Duration.ofSeconds(1), 0, true));
+    }
+
+    private static WebhookMessage timestamped(String title, long second) {
+        return WebhookMessage.builder()
+                .addEmbed(WebhookEmbed.builder().title(title).timestamp(Instant.ofEpochSecond(second)).build())
+                .build();
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
@@ -0,0 +1,80 @@
+package com.moocrest.webhook;
+
+import com.moocrest.webhook.util.WebhookEndpoint;
+import com.moocrest.webhook.util.WebhookException;
+import com.moocrest.webhook.util.WebhookUrlValidator;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebhookEndpointTest {
+
+    private static final String URL = "https://discord.com/api/webhooks/123456789/abcdefghijklmnopqrstuvwxyz";
+
+    @Test
+    void testParsesIdTokenAndUri() {
+        WebhookEndpoint endpoint = WebhookEndpoint.parse(URL);
+
+        assertEquals("123456789", endpoint.id());
+        assertEquals("abcdefghijklmnopqrstuvwxyz", endpoint.token());
+        assertEquals("123456789/abcdefghijklmnopqrstuvwxyz", endpoint.route());
+        assertEquals(URI.create(URL), endpoint.uri());
+        assertFalse(endpoint.waitForMessage());
+        assertEquals(Optional.empty(), endpoint.threadId());
+    }
+
+    @Test
+    void testParsesQueryParameters() {
+        WebhookEndpoint endpoint = WebhookEndpoint.parse(URL + "?wait=true&thread_id=987654321");
+
+        assertTrue(endpoint.waitForMessage());
+        assertEquals(Optional.of("987654321"), endpoint.threadId());
+        assertEquals("123456789/abcdefghijklmnopqrstuvwxyz", endpoint.route());
+        assertEquals("wait=true&thread_id=987654321", endpoint.uri().getRawQuery());
+    }
+
+    @Test
+    void testTrimsWhitespaceAndAcceptsLegacyHost() {
+        WebhookEndpoint endpoint = WebhookEndpoint.parse("  HTTPS://DiscordApp.com/api/webhooks/1/a-b_C \n");
+
+        assertEquals("HTTPS://DiscordApp.com/api/webhooks/1/a-b_C", endpoint.url());
+        assertEquals("a-b_C", endpoint.token());
+    }
+
+    @Test
+    void testRejectsMalformedUrls() {
+        String[] invalid = {
+                "http://discord.com/api/webhooks/1/token",
+                "https://discord.com.evil.com/api/webhooks/1/token",
+                "https://discord.com/api/webhooks/abc/token",
+                "https://discord.com/api/webhooks/1/",
+                "https://discord.com/api/webhooks/1",
+                "https://discord.com/api/webhooks/1/tok.en",
+                "https://discord.com/api/webhooks/1/token/extra",
+                "https://discord.com/api/webhooks/1/token?a=%zz",
+                "https://discord.com/api/webhooks/1/token?a=b c",
+                "   "
+        };
+        for (String url : invalid) {
+            assertFalse(WebhookUrlValidator.isValid(url), url);
+            assertThrows(WebhookException.class, () -> WebhookEndpoint.parse(url));
+        }
+    }
+
+    @Test
+    void testOfParsesWithoutSharedState() {
+        WebhookEndpoint first = WebhookEndpoint.of(URL);
+
+        assertNotSame(first, WebhookEndpoint.of(URL));
+        assertEquals(WebhookEndpoint.parse(URL), first);
+        assertThrows(WebhookException.class, () -> WebhookEndpoint.of(null));
+    }
+
+    @Test
+    void testToStringHidesToken() {
+        assertFalse(WebhookEndpoint.parse(URL).toString().contains("abcdefghijklmnopqrstuvwxyz"));
+    }
+}
@@ -1,11 +1,46 @@
 package com.moocrest.webhook;
 
+import com.moocrest.webhook.metrics.InMemoryWebhookMetrics;
 import com.moocrest.webhook.model.WebhookEmbed;
 import com.moocrest.webhook.model.WebhookMessage;
+import com.moocrest.webhook.sender.ConnectionPolicy;
+import com.moocrest.webhook.sender.DeliveryPriority;
+import com.moocrest.webhook.sender.DeliveryQueuePolicy;
+import com.moocrest.webhook.sender.OverflowPolicy;
+import com.moocrest.webhook.sender.RateLimitPolicy;
+import com.moocrest.webhook.sender.RetryPolicy;
+import com.moocrest.webhook.sender.WebhookClient;
+import com.moocrest.webhook.testing.LoadGenerator;
+import com.moocrest.webhook.testing.LoadProfile;
+import com.moocrest.webhook.testing.LoadReport;
+import com.moocrest.webhook.testing.RecordedRequest;
+import com.moocrest.webhook.testing.StubDiscordServer;
+import com.moocrest.webhook.testing.StubResponse;
+import com.moocrest.webhook.util.WebhookException;
 import com.moocrest.webhook.util.WebhookUrlValidator;
 import org.junit.jupiter.api.Test;
 
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import java.io.IOException;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -127,4 +162,445 @@ class WebhookIntegrationTest {
                 assertEquals("Modified Content", modifiedMessage.content());
                 assertEquals("Original User", modifiedMessage.username());
         }
-}
\ No newline at end of file
+
+        @Test
+        void testDeliversMessageToStubServer() throws Exception {
+                try (StubDiscordServer server = StubDiscordServer.start();
+                                WebhookClient client = server.clientBuilder().build()) {
+                        WebhookMessage message = WebhookMessage.builder()
+                                        .content("Hello from the stub")
+                                        .username("Test Bot")
+                                        .build();
+
+                        assertTrue(client.sendWebhook(server.webhookUrl(42), message).join());
+
+                        RecordedRequest request = server.lastRequest();
+                        assertEquals("POST", request.method());
+                        assertEquals("42", request.webhookId());
+                        assertTrue(request.body().contains("\"content\":\"Hello from the stub\""));
+                        assertEquals(1, server.responseCount(204));
+                }
+        }
+
+        @Test
+        void testRetriesScriptedRateLimitAndServerError() throws Exception {
+                try (StubDiscordServer server = StubDiscordServer.start();
+                                WebhookClient client = server.clientBuilder()
+                                                .retryPolicy(RetryPolicy.exponential(3, Duration.ofMillis(10),
+                                                                Duration.ofMillis(50)))
+                                                .build()) {
+                        server.enqueue(StubResponse.rateLimited(Duration.ofMillis(50)), StubResponse.serverError());
+
+                        assertTrue(client.sendSimpleMessage(server.webhookUrl(1), "retry me").join());
+                        assertEquals(3, server.requestCount());
+                        assertEquals(1, server.responseCount(429));
+                        assertEquals(1, server.responseCount(500));
+                }
+        }
+
+        @Test
+        void testClientFollowsEmulatedRateLimitHeaders() throws Exception {
+                try (StubDiscordServer server = StubDiscordServer.start();
+                                WebhookClient client = server.clientBuilder().build()) {
+                        server.rateLimit(2, Duration.ofMillis(300));
+                        String webhookUrl = server.webhookUrl(7);
+
+                        client.sendSimpleMessage(webhookUrl, "warm up").join();
+                        for (int i = 0; i < 6; i++) {
+                                assertTrue(client.sendSimpleMessage(webhookUrl, "message " + i).join());
+                        }
+
+                        assertEquals(0, server.responseCount(429));
+                }
+        }
+
+        @Test
+        void testLoadGeneratorReportsThroughputAndLatency() throws Exception {
+                try (StubDiscordServer server = StubDiscordServer.start();
+                                WebhookClient client = server.clientBuilder()
+                                                .retryPolicy(RetryPolicy.noRetries())
+                                                .rateLimitPolicy(new RateLimitPolicy(Integer.MAX_VALUE,
+                                                                Duration.ofSeconds(1)))
+                                                .build()) {
+                        server.latency(Duration.ofMillis(5));
+                        LoadGenerator generator = new LoadGenerator(client);
+
+                        LoadReport report = generator.run(LoadProfile.of(200, Duration.ofMillis(500),
+                                        List.of(server.webhookUrl(1), server.webhookUrl(2))));
+
+                        assertEquals(100, report.sent());
+                        assertEquals(100, report.delivered());
+                        assertEquals(0, report.failed());
+                        assertTrue(report.p50().compareTo(Duration.ofMillis(5)) >= 0);
+                        assertTrue(report.p999().compareTo(report.p50()) >= 0);
+                        assertTrue(report.throughput() > 0.0);
+                }
+        }
+
+        @Test
+        void testOrderedDeliveryHoldsBackMessagesBehindARetry() throws Exception {
+                try (StubDiscordServer server = StubDiscordServer.start();
+                                WebhookClient client = server.clientBuilder()
+                                                .orderedDelivery(1)
+                                                .retryPolicy(RetryPolicy.exponential(3, Duration.ofMillis(10),
+                                                                Duration.ofMillis(50)))
+                                                .build()) {
+                        server.enqueue(StubResponse.noContent(), StubResponse.serverError());
+                        String webhookUrl = server.webhookUrl(3);
+
+                        List<CompletableFuture<Boolean>> sends = new ArrayList<>();
+                        for (int i = 0; i < 5; i++) {
+                                sends.add(client.sendSimpleMessage(webhookUrl, "line " + i));
+                        }
+                        sends.forEach(send -> assertTrue(send.join()));
+
+                        List<String> order = server.requests().stream()
+                                        .map(request -> request.body().replaceAll(".*\"line (\\d)\".*", "$1"))
+                                        .toList();
+                        assertEquals(List.of("0", "1", "1", "2", "3", "4"), order);
+                        assertEquals(1, server.responseCount(500));
+                }
+        }
+
+        @Test
+        void testPipelinedOrderedDeliveryKeepsSubmissionOrder() throws Exception {
+                HandOffRecorder recorder = new HandOffRecorder(HttpClient.newHttpClient());
+                try (StubDiscordServer server = StubDiscordServer.start();
+                                WebhookClient client = server.clientBuilder()
+                                                .httpClient(recorder)
+                                                .orderedDelivery(5)
+                                                .rateLimitPolicy(new RateLimitPolicy(100, Duration.ofSeconds(1)))
+                                                .build()) {
+                        server.latency(Duration.ofMillis(50));
+                        String webhookUrl = server.webhookUrl(5);
+
+                        List<CompletableFuture<Boolean>> sends = new ArrayList<>();
+                        List<Duration> expected = new ArrayList<>();
+                        for (int i = 0; i < 20; i++) {
+                                Duration timeout = Duration.ofSeconds(20).plusMillis(i);
+                                WebhookMessage message = WebhookMessage.builder().content("line " + i).build();
+                                sends.add(i == 10
+                                                ? client.sendWebhook(webhookUrl, message, DeliveryPriority.CRITICAL)
+                                                : client.sendWebhook(webhookUrl, message, timeout));
+                                expected.add(i == 10 ? Duration.ofSeconds(10) : timeout);
+                        }
+                        sends.forEach(send -> assertTrue(send.join()));
+
+                        assertEquals(expected, recorder.timeouts());
+                        assertTrue(recorder.maxInFlight() > 1, "expected pipelined sends");
+                }
+        }
+
+        @Test
+        void testClosingDuringRetryFailsTheSend() throws Exception {
+                try (StubDiscordServer server = StubDiscordServer.start()) {
+                        server.errorRate(1.0, 503);
+                        WebhookClient client = server.clientBuilder()
+                                        .retryPolicy(RetryPolicy.exponential(3, Duration.ofSeconds(1),
+                                                        Duration.ofSeconds(1)))
+                                        .build();
+                        CompletableFuture<Boolean> send = client.sendSimpleMessage(server.webhookUrl(1), "retry");
+                        long deadline = System.currentTimeMillis() + 5_000;
+                        while (server.responseCount(503) == 0 && System.currentTimeMillis() < deadline) {
+                                Thread.sleep(10);
+                        }
+                        Thread.sleep(50);
+
+                        client.close();
+
+                        ExecutionException error = assertThrows(ExecutionException.class,
+                                        () -> send.get(2, TimeUnit.SECONDS));
+                        assertInstanceOf(WebhookException.class, error.getCause());
+                }
+        }
+
+        @Test
+        void testClosingFailsSendsWaitingForRateLimit() throws Exception {
+                try (StubDiscordServer server = StubDiscordServer.start()) {
+                        WebhookClient client = server.clientBuilder()
+                                        .rateLimitPolicy(new RateLimitPolicy(1, Duration.ofSeconds(30)))
+                                        .build();
+                        assertTrue(client.sendSimpleMessage(server.webhookUrl(1), "first").join());
+                        CompletableFuture<Boolean> waiting = client.sendSimpleMessage(server.webhookUrl(1), "second");
+                        Thread.sleep(100);
+                        assertFalse(waiting.isDone());
+
+                        client.close();
+
+                        assertFailsWithClosedClient(waiting);
+                        assertFailsWithClosedClient(client.sendSimpleMessage(server.webhookUrl(1), "third"));
+                }
+        }
+
+        @Test
+        void testClosingFailsSendsWaitingOnGlobalLimit() throws Exception {
+                try (StubDiscordServer server = StubDiscordServer.start()) {
+                        server.enqueue(StubResponse.rateLimited(Duration.ofSeconds(30), true));
+                        WebhookClient client = server.clientBuilder().build();
+                        CompletableFuture<Boolean> limited = client.sendSimpleMessage(server.webhookUrl(1), "first");
+                        long deadline = System.currentTimeMillis() + 5_000;
+                        while (server.responseCount(429) == 0 && System.currentTimeMillis() < deadline) {
+                                Thread.sleep(10);
+                        }
+                        Thread.sleep(50);
+                        CompletableFuture<Boolean> gated = client.sendSimpleMessage(server.webhookUrl(2), "second");
+                        Thread.sleep(100);
+                        assertFalse(gated.isDone());
+
+                        client.close();
+
+                        assertFailsWithClosedClient(gated);
+                        ExecutionException error = assertThrows(ExecutionException.class,
+                                        () -> limited.get(2, TimeUnit.SECONDS));
+                        assertInstanceOf(WebhookException.class, error.getCause());
+                        assertEquals(1, server.requestCount());
+                }
+        }
+
+        @Test
+        void testClosingFailsOrderedSendsHeldForRetry() throws Exception {
+                try (StubDiscordServer server = StubDiscordServer.start()) {
+                        server.enqueue(StubResponse.serverError());
+                        WebhookClient client = server.clientBuilder()
+                                        .orderedDelivery(1)
+                                        .retryPolicy(RetryPolicy.exponential(3, Duration.ofSeconds(30),
+                                                        Duration.ofSeconds(30)))
+                                        .build();
+                        CompletableFuture<Boolean> held = client.sendSimpleMessage(server.webhookUrl(1), "first");
+                        CompletableFuture<Boolean> behind = client.sendSimpleMessage(server.webhookUrl(1), "second");
+                        long deadline = System.currentTimeMillis() + 5_000;
+                        while (server.responseCount(500) == 0 && System.currentTimeMillis() < deadline) {
+                                Thread.sleep(10);
+                        }
+                        Thread.sleep(50);
+
+                        client.close();
+
+                        assertFailsWithClosedClient(held);
+                        assertFailsWithClosedClient(behind);
+                        assertEquals(1, server.requestCount());
+                }
+        }
+
+        @Test
+        void testClosingFailsQueuedSends() throws Exception {
+                try (StubDiscordServer server = StubDiscordServer.start()) {
+                        server.latency(Duration.ofMillis(300));
+                        WebhookClient client = server.clientBuilder()
+                                        .deliveryQueue(new DeliveryQueuePolicy(10, 1, OverflowPolicy.BLOCK))
+                                        .build();
+                        CompletableFuture<Boolean> inFlight = client.sendSimpleMessage(server.webhookUrl(1), "first");
+                        CompletableFuture<Boolean> queued = client.sendSimpleMessage(server.webhookUrl(1), "second");
+                        assertEquals(1, client.queueDepth());
+
+                        client.close();
+
+                        assertFailsWithClosedClient(queued);
+                        assertTrue(inFlight.get(2, TimeUnit.SECONDS));
+                        assertEquals(1, server.requestCount());
+                }
+        }
+
+        @Test
+        void testOrderedDeliveryRespectsQueueCapacity() throws Exception {
+                try (StubDiscordServer server = StubDiscordServer.start();
+                                WebhookClient client = server.clientBuilder()
+                                                .orderedDelivery(1)
+                                                .deliveryQueue(new DeliveryQueuePolicy(1, 1, OverflowPolicy.FAIL_FAST))
+                                                .build()) {
+                        server.latency(Duration.ofMillis(200));
+                        String webhookUrl = server.webhookUrl(4);
+
+                        CompletableFuture<Boolean> first = client.sendSimpleMessage(webhookUrl, "line 0");
+                        CompletableFuture<Boolean> second = client.sendSimpleMessage(webhookUrl, "line 1");
+                        CompletableFuture<Boolean> third = client.sendSimpleMessage(webhookUrl, "line 2");
+
+                        assertEquals(1, client.queueDepth());
+                        assertEquals(1, client.inFlightCount());
+                        CompletionException error = assertThrows(CompletionException.class, third::join);
+                        assertInstanceOf(WebhookException.class, error.getCause());
+
+                        assertTrue(first.join());
+                        assertTrue(second.join());
+                        assertTrue(client.sendSimpleMessage(webhookUrl, "line 3").join());
+
+                        List<String> order = server.requests().stream()
+                                        .map(request -> request.body().replaceAll(".*\"line (\\d)\".*", "$1"))
+                                        .toList();
+                        assertEquals(List.of("0", "1", "3"), order);
+                }
+        }
+
+        @Test
+        void testWarmUpOpensConnectionBeforeFirstSend() throws Exception {
+                InMemoryWebhookMetrics metrics = new InMemoryWebhookMetrics();
+                try (StubDiscordServer server = StubDiscordServer.start();
+                                WebhookClient client = server.clientBuilder().metrics(metrics).build()) {
+                        client.warmUp(List.of(server.webhookUrl(1), server.webhookUrl(2))).join();
+
+                        assertEquals(1, server.requestCount());
+                        assertEquals("GET", server.lastRequest().method());
+                        assertEquals(1, metrics.connectionsOpened());
+
+                        for (int i = 0; i < 3; i++) {
+                                assertTrue(client.sendSimpleMessage(server.webhookUrl(1), "warm " + i).join());
+                        }
+
+                        assertEquals(1, metrics.connectionsOpened());
+                        assertEquals(3, metrics.connectionsReused());
+                        assertEquals(1, server.connectionCount());
+                }
+        }
+
+        @Test
+        void testKeepAlivePingsIdleConnections() throws Exception {
+                try (StubDiscordServer server = StubDiscordServer.start();
+                                WebhookClient client = server.clientBuilder()
+                                                .connectionPolicy(new ConnectionPolicy(HttpClient.Version.HTTP_2,
+                                                                Duration.ofSeconds(5), Duration.ofMillis(50)))
+                                                .build()) {
+                        assertTrue(client.sendSimpleMessage(server.webhookUrl(1), "hello").join());
+
+                        Thread.sleep(300);
+
+                        long pings = server.requests().stream()
+                                        .filter(request -> request.method().equals("GET"))
+                                        .count();
+                        assertTrue(pings >= 2, "expected keep-alive pings but saw " + pings);
+                        assertEquals(1, server.connectionCount());
+                }
+        }
+
+        @Test
+        void testWarmUpWaitsOutGlobalLimit() throws Exception {
+                try (StubDiscordServer server = StubDiscordServer.start();
+                                WebhookClient client = server.clientBuilder()
+                                                .retryPolicy(RetryPolicy.noRetries())
+                                                .build()) {
+                        server.enqueue(StubResponse.rateLimited(Duration.ofSeconds(30), true));
+                        assertThrows(CompletionException.class,
+                                        () -> client.sendSimpleMessage(server.webhookUrl(1), "limited").join());
+
+                        CompletableFuture<Void> warmUp = client.warmUp(List.of(server.webhookUrl(2)));
+                        Thread.sleep(100);
+
+                        assertFalse(warmUp.isDone());
+                        assertEquals(1, server.requestCount());
+                }
+        }
+
+        @Test
+        void testKeepAliveSkipsPingsWhileGloballyLimited() throws Exception {
+                try (StubDiscordServer server = StubDiscordServer.start();
+                                WebhookClient client = server.clientBuilder()
+                                                .retryPolicy(RetryPolicy.noRetries())
+                                                .connectionPolicy(new ConnectionPolicy(HttpClient.Version.HTTP_2,
+                                                                Duration.ofSeconds(5), Duration.ofMillis(50)))
+                                                .build()) {
+                        server.enqueue(StubResponse.rateLimited(Duration.ofMillis(400), true));
+                        assertThrows(CompletionException.class,
+                                        () -> client.sendSimpleMessage(server.webhookUrl(1), "limited").join());
+                        Thread.sleep(300);
+
+                        assertTrue(client.sendSimpleMessage(server.webhookUrl(1), "probe").join());
+
+                        long pings = server.requests().stream()
+                                        .filter(request -> request.method().equals("GET"))
+                                        .count();
+                        assertEquals(0, pings);
+                        assertEquals(2, server.requestCount());
+                }
+        }
+
+        private static final class HandOffRecorder extends HttpClient {
+                private final HttpClient delegate;
+                private final List<Duration> timeouts = Collections.synchronizedList(new ArrayList<>());
+                private final AtomicInteger inFlight = new AtomicInteger();
+                private final AtomicInteger maxInFlight = new AtomicInteger();
+
+                private HandOffRecorder(HttpClient delegate) {
+                        this.delegate = delegate;
+                }
+
+                List<Duration> timeouts() {
+                        return List.copyOf(timeouts);
+                }
+
+                int maxInFlight() {
+                        return maxInFlight.get();
+                }
+
+                @Override
+                public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request,
+                                HttpResponse.BodyHandler<T> handler) {
+                        timeouts.add(request.timeout().orElseThrow());
+                        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                        return delegate.sendAsync(request, handler)
+                                        .whenComplete((response, error) -> inFlight.decrementAndGet());
+                }
+
+                @Override
+                public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request,
+                                HttpResponse.BodyHandler<T> handler, HttpResponse.PushPromiseHandler<T> pushHandler) {
+                        return sendAsync(request, handler);
+                }
+
+                @Override
+                public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler)
+                                throws IOException, InterruptedException {
+                        timeouts.add(request.timeout().orElseThrow());
+                        return delegate.send(request, handler);
+                }
+
+                @Override
+                public Optional<CookieHandler> cookieHandler() {
+                        return delegate.cookieHandler();
+                }
+
+                @Override
+                public Optional<Duration> connectTimeout() {
+                        return delegate.connectTimeout();
+                }
+
+                @Override
+                public Redirect followRedirects() {
+                        return delegate.followRedirects();
+                }
+
+                @Override
+                public Optional<ProxySelector> proxy() {
+                        return delegate.proxy();
+                }
+
+                @Override
+                public SSLContext sslContext() {
+                        return delegate.sslContext();
+                }
+
+                @Override
+                public SSLParameters sslParameters() {
+                        return delegate.sslParameters();
+                }
+
+                @Override
+                public Optional<Authenticator> authenticator() {
+                        return delegate.authenticator();
+                }
+
+                @Override
+                public Version version() {
+                        return delegate.version();
+                }
+
+                @Override
+                public Optional<Executor> executor() {
+                        return delegate.executor();
+                }
+        }
+
+        private static void assertFailsWithClosedClient(CompletableFuture<?> send) {
+                ExecutionException error = assertThrows(ExecutionException.class, () -> send.get(2, TimeUnit.SECONDS));
+                assertInstanceOf(WebhookException.class, error.getCause());
+                assertEquals(WebhookException.clientClosed().getMessage(), error.getCause().getMessage());
+        }
+}
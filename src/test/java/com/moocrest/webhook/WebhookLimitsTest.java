@@ -0,0 +1,145 @@
+package com.moocrest.webhook;
+
+import com.moocrest.webhook.builder.WebhookBuilder;
+import com.moocrest.webhook.builder.WebhookEmbedBuilder;
+import com.moocrest.webhook.model.WebhookEmbed;
+import com.moocrest.webhook.model.WebhookMessage;
+import com.moocrest.webhook.sender.PreparedWebhookMessage;
+import com.moocrest.webhook.sender.WebhookClient;
+import com.moocrest.webhook.testing.RecordedRequest;
+import com.moocrest.webhook.testing.StubDiscordServer;
+import com.moocrest.webhook.util.DiscordLimits;
+import com.moocrest.webhook.util.LimitViolation;
+import com.moocrest.webhook.util.WebhookException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebhookLimitsTest {
+
+    @Test
+    void testCheckReportsFirstViolation() {
+        assertNull(DiscordLimits.check(WebhookMessage.builder().content("x".repeat(2000)).build()));
+
+        LimitViolation content = DiscordLimits.check(WebhookMessage.builder().content("x".repeat(2001)).build());
+        assertEquals(new LimitViolation("content", 2001, 2000), content);
+
+        WebhookEmbedBuilder embed = WebhookEmbed.builder().title("Stats");
+        for (int i = 0; i < 26; i++) {
+            embed.addField("Field " + i, "value", true);
+        }
+        LimitViolation fields = DiscordLimits.check(WebhookMessage.builder().addEmbed(embed.build()).build());
+        assertEquals(new LimitViolation("embeds[0].fields", 26, 25), fields);
+
+        WebhookBuilder total = WebhookMessage.builder();
+        for (int i = 0; i < 2; i++) {
+            total.addEmbed(WebhookEmbed.builder().description("d".repeat(3001)).build());
+        }
+        assertEquals(new LimitViolation("embeds (total text)", 6002, 6000), DiscordLimits.check(total.build()));
+    }
+
+    @Test
+    void testSplitsContentOnLineBreaksAndGroupsEmbeds() {
+        String line = "y".repeat(999);
+        WebhookBuilder builder = WebhookMessage.builder()
+                .username("Crest")
+                .content(line + "\n" + line + "\n" + line);
+        for (int i = 0; i < 12; i++) {
+            builder.addEmbed(WebhookEmbed.builder().title("Embed " + i).build());
+        }
+
+        List<WebhookMessage> parts = DiscordLimits.split(builder.build());
+
+        assertEquals(3, parts.size());
+        assertEquals(line + "\n" + line, parts.get(0).content());
+        assertNull(parts.get(0).embeds());
+        assertEquals(line, parts.get(1).content());
+        assertEquals(10, parts.get(1).embeds().size());
+        assertNull(parts.get(2).content());
+        assertEquals("Embed 11", parts.get(2).embeds().get(1).title());
+        for (WebhookMessage part : parts) {
+            assertEquals("Crest", part.username());
+            assertNull(DiscordLimits.check(part));
+        }
+    }
+
+    @Test
+    void testSplitKeepsSurrogatePairsTogether() {
+        String content = "a".repeat(1999) + "😀" + "b";
+
+        List<WebhookMessage> parts = DiscordLimits.split(WebhookMessage.builder().content(content).build());
+
+        assertEquals("a".repeat(1999), parts.get(0).content());
+        assertEquals("😀b", parts.get(1).content());
+    }
+
+    @Test
+    void testSplitRejectsUnfixableMessages() {
+        WebhookMessage longTitle = WebhookMessage.builder()
+                .addEmbed(WebhookEmbed.builder().title("t".repeat(300)).build())
+                .build();
+        WebhookException error = assertThrows(WebhookException.class, () -> DiscordLimits.split(longTitle));
+        assertEquals(400, error.statusCode());
+        assertTrue(error.getMessage().contains("embeds[0].title"));
+
+        WebhookMessage forumPost = WebhookMessage.builder()
+                .threadName("Daily report")
+                .content("z".repeat(2500))
+                .build();
+        assertThrows(WebhookException.class, () -> DiscordLimits.split(forumPost));
+    }
+
+    @Test
+    void testClientRejectsOversizedMessagesWithoutSending() throws Exception {
+        try (StubDiscordServer server = StubDiscordServer.start();
+                WebhookClient client = server.clientBuilder().build()) {
+            WebhookMessage message = WebhookMessage.builder().content("x".repeat(2001)).build();
+
+            CompletionException error = assertThrows(CompletionException.class,
+                    () -> client.sendWebhook(server.webhookUrl(1), message).join());
+
+            assertInstanceOf(WebhookException.class, error.getCause());
+            assertTrue(error.getCause().getMessage().contains("content is 2001 long"));
+            assertEquals(0, server.requestCount());
+        }
+    }
+
+    @Test
+    void testClientRejectsOversizedPreparedValuesWithoutSending() throws Exception {
+        try (StubDiscordServer server = StubDiscordServer.start();
+                WebhookClient client = server.clientBuilder().build()) {
+            PreparedWebhookMessage prepared = client.prepare(WebhookMessage.builder()
+                    .addEmbed(WebhookEmbed.builder().title("{{player}} joined").build())
+                    .build());
+
+            CompletionException error = assertThrows(CompletionException.class,
+                    () -> client.sendPrepared(server.webhookUrl(1), prepared, Map.of("player", "p".repeat(250)))
+                            .join());
+
+            assertInstanceOf(WebhookException.class, error.getCause());
+            assertTrue(error.getCause().getMessage().contains("embeds[0].title is 257 long"));
+            assertEquals(0, server.requestCount());
+        }
+    }
+
+    @Test
+    void testClientAutoSplitDeliversPartsInOrder() throws Exception {
+        try (StubDiscordServer server = StubDiscordServer.start();
+                WebhookClient client = server.clientBuilder().autoSplit(true).build()) {
+            String content = "first ".repeat(300) + "\n" + "second ".repeat(250);
+            WebhookMessage message = WebhookMessage.builder().content(content).build();
+
+            assertTrue(client.sendWebhook(server.webhookUrl(1), message).join());
+
+            List<RecordedRequest> requests = server.requests();
+            assertEquals(2, requests.size());
+            assertTrue(requests.get(0).body().contains("first first"));
+            assertFalse(requests.get(0).body().contains("second"));
+            assertTrue(requests.get(1).body().contains("second second"));
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.moocrest.webhook;
+
+import com.moocrest.webhook.model.SentMessage;
+import com.moocrest.webhook.model.WebhookMessage;
+import com.moocrest.webhook.sender.WebhookClient;
+import com.moocrest.webhook.testing.RecordedRequest;
+import com.moocrest.webhook.testing.StubDiscordServer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebhookMessageEditTest {
+
+    @Test
+    void testSendAndWaitReturnsMessageId() throws Exception {
+        try (StubDiscordServer server = StubDiscordServer.start();
+                WebhookClient client = server.clientBuilder().build()) {
+            SentMessage sent = client.sendAndWait(server.webhookUrl(5),
+                    WebhookMessage.builder().content("Server online").build()).join();
+
+            assertTrue(server.hasMessage(sent.id()));
+            assertEquals("5", sent.webhookId());
+            assertEquals("1000", sent.channelId());
+            assertEquals("wait=true", server.lastRequest().query());
+        }
+    }
+
+    @Test
+    void testEditAndDeleteTargetTheMessageRoute() throws Exception {
+        try (StubDiscordServer server = StubDiscordServer.start();
+                WebhookClient client = server.clientBuilder().build()) {
+            String webhookUrl = server.webhookUrl(5);
+            SentMessage sent = client.sendAndWait(webhookUrl, WebhookMessage.builder().content("v1").build()).join();
+
+            SentMessage edited = client.editMessage(webhookUrl, sent.id(),
+                    WebhookMessage.builder().content("v2").build()).join();
+
+            RecordedRequest patch = server.lastRequest();
+            assertEquals(sent.id(), edited.id());
+            assertEquals("PATCH", patch.method());
+            assertEquals(sent.id(), patch.messageId());
+            assertTrue(patch.body().contains("\"content\":\"v2\""));
+
+            assertTrue(client.deleteMessage(webhookUrl, sent.id()).join());
+            assertEquals("DELETE", server.lastRequest().method());
+            assertFalse(server.hasMessage(sent.id()));
+
+            assertFalse(client.deleteMessage(webhookUrl, sent.id()).join());
+            assertEquals(1, server.responseCount(404));
+        }
+    }
+
+    @Test
+    void testDeletingAKeyedMessageRemovedInDiscordReturnsFalse() throws Exception {
+        try (StubDiscordServer server = StubDiscordServer.start();
+                WebhookClient client = server.clientBuilder().build()) {
+            String webhookUrl = server.webhookUrl(9);
+            SentMessage sent = client.upsertMessage(webhookUrl, "server-status",
+                    WebhookMessage.builder().content("Online").build()).join();
+            assertTrue(client.deleteMessage(webhookUrl, sent.id()).join());
+
+            assertFalse(client.deleteKeyedMessage(webhookUrl, "server-status").join());
+            assertTrue(client.messageId(webhookUrl, "server-status").isEmpty());
+            assertFalse(client.deleteKeyedMessage(webhookUrl, "server-status").join());
+        }
+    }
+
+    @Test
+    void testUpsertEditsTheCachedMessage() throws Exception {
+        try (StubDiscordServer server = StubDiscordServer.start();
+                WebhookClient client = server.clientBuilder().build()) {
+            String webhookUrl = server.webhookUrl(9);
+
+            SentMessage first = client.upsertMessage(webhookUrl, "server-status",
+                    WebhookMessage.builder().content("Players: 3").build()).join();
+            SentMessage second = client.upsertMessage(webhookUrl, "server-status",
+                    WebhookMessage.builder().content("Players: 4").build()).join();
+
+            assertEquals(first.id(), second.id());
+            assertEquals(first.id(), client.messageId(webhookUrl, "server-status").orElseThrow());
+            List<String> methods = server.requests().stream().map(RecordedRequest::method).toList();
+            assertEquals(List.of("POST", "PATCH"), methods);
+        }
+    }
+
+    @Test
+    void testConcurrentUpsertsShareOneMessage() throws Exception {
+        try (StubDiscordServer server = StubDiscordServer.start();
+                WebhookClient client = server.clientBuilder().build()) {
+            String webhookUrl = server.webhookUrl(9);
+
+            List<CompletableFuture<SentMessage>> upserts = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                upserts.add(client.upsertMessage(webhookUrl, "server-status",
+                        WebhookMessage.builder().content("Players: " + i).build()));
+            }
+
+            Set<String> ids = upserts.stream().map(upsert -> upsert.join().id()).collect(Collectors.toSet());
+            assertEquals(1, ids.size());
+            List<String> methods = server.requests().stream().map(RecordedRequest::method).toList();
+            assertEquals(List.of("POST", "PATCH", "PATCH"), methods);
+            assertTrue(server.lastRequest().body().contains("Players: 2"));
+        }
+    }
+
+    @Test
+    void testUpsertReplacesDeletedMessage() throws Exception {
+        try (StubDiscordServer server = StubDiscordServer.start();
+                WebhookClient client = server.clientBuilder().build()) {
+            String webhookUrl = server.webhookUrl(9);
+            SentMessage first = client.upsertMessage(webhookUrl, "server-status",
+                    WebhookMessage.builder().content("Online").build()).join();
+            client.deleteMessage(webhookUrl, first.id()).join();
+
+            SentMessage replacement = client.upsertMessage(webhookUrl, "server-status",
+                    WebhookMessage.builder().content("Still online").build()).join();
+
+            assertNotEquals(first.id(), replacement.id());
+            assertEquals(replacement.id(), client.messageId(webhookUrl, "server-status").orElseThrow());
+
+            assertTrue(client.deleteKeyedMessage(webhookUrl, "server-status").join());
+            assertTrue(client.messageId(webhookUrl, "server-status").isEmpty());
+            assertFalse(server.hasMessage(replacement.id()));
+        }
+    }
+
+    @Test
+    void testRejectsMalformedMessageIds() {
+        try (WebhookClient client = WebhookClient.builder().build()) {
+            String webhookUrl = "https://discord.com/api/webhooks/123/token";
+
+            CompletionException deleteError = assertThrows(CompletionException.class,
+                    () -> client.deleteMessage(webhookUrl, "../../channels").join());
+            assertInstanceOf(IllegalArgumentException.class, deleteError.getCause());
+            CompletionException editError = assertThrows(CompletionException.class,
+                    () -> client.editMessage(webhookUrl, "", WebhookMessage.builder().content("x").build()).join());
+            assertInstanceOf(IllegalArgumentException.class, editError.getCause());
+        }
+    }
+}
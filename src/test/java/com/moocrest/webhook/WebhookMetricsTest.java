@@ -0,0 +1,75 @@
+package com.moocrest.webhook;
+
+import com.moocrest.webhook.metrics.EndpointMetrics;
+import com.moocrest.webhook.metrics.InMemoryWebhookMetrics;
+import com.moocrest.webhook.model.WebhookMessage;
+import com.moocrest.webhook.sender.ExecutionMode;
+import com.moocrest.webhook.sender.RetryPolicy;
+import com.moocrest.webhook.sender.WebhookClient;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebhookMetricsTest {
+
+    private static final String WEBHOOK_URL = "https://discord.com/api/webhooks/123456789/metrics-token";
+
+    @Test
+    void testAsyncClientReportsPipelineMetrics() throws Exception {
+        assertMetricsRecorded(ExecutionMode.ASYNC);
+    }
+
+    @Test
+    void testBlockingClientReportsPipelineMetrics() throws Exception {
+        if (ExecutionMode.virtualThreadsSupported()) {
+            assertMetricsRecorded(ExecutionMode.VIRTUAL_THREADS);
+        }
+    }
+
+    private static void assertMetricsRecorded(ExecutionMode executionMode) throws Exception {
+        AtomicInteger received = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/webhooks/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            int status = received.incrementAndGet() == 1 ? 503 : 204;
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        server.start();
+
+        InMemoryWebhookMetrics metrics = new InMemoryWebhookMetrics();
+        try (WebhookClient client = WebhookClient.builder()
+                .executionMode(executionMode)
+                .baseUri(URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/api/"))
+                .retryPolicy(RetryPolicy.exponential(3, Duration.ofMillis(10), Duration.ofMillis(50)))
+                .metrics(metrics)
+                .build()) {
+            assertTrue(client.sendSimpleMessage(WEBHOOK_URL, "first").join());
+            assertTrue(client.sendSimpleMessage(WEBHOOK_URL, "second").join());
+        } finally {
+            server.stop(0);
+        }
+
+        assertEquals(3, metrics.requests());
+        assertEquals(1, metrics.retries());
+        assertEquals(1, metrics.statusCount(503));
+        assertEquals(2, metrics.statusCount(204));
+        assertEquals(0, metrics.inFlight());
+        assertEquals(3, metrics.latency().count());
+        assertTrue(metrics.latency().valueAtPercentile(99) > 0);
+        assertEquals(2, metrics.serializationTime().count());
+        assertEquals(3, metrics.rateLimitWait().count());
+
+        EndpointMetrics endpoint = metrics.endpoints().get("123456789");
+        assertEquals(3, endpoint.requests());
+        assertEquals(1, endpoint.retries());
+        assertEquals(Map.of(204, 2L, 503, 1L), endpoint.statusCounts());
+    }
+}
@@ -0,0 +1,100 @@
+package com.moocrest.webhook;
+
+import com.moocrest.webhook.model.WebhookAttachment;
+import com.moocrest.webhook.model.WebhookEmbed;
+import com.moocrest.webhook.model.WebhookMessage;
+import com.moocrest.webhook.sender.WebhookSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebhookSerializerTest {
+
+    @Test
+    void testBothSerializersMatchGoldenFile() throws IOException {
+        WebhookMessage message = goldenMessage();
+        String golden = readGolden("golden/webhook-message.json");
+
+        assertEquals(golden, serialize(WebhookSerializer.jackson(), message));
+        assertEquals(golden, serialize(WebhookSerializer.streaming(), message));
+    }
+
+    @Test
+    void testNullFieldsAreOmitted() throws IOException {
+        WebhookMessage message = WebhookMessage.builder()
+                .content("only content")
+                .addEmbed(WebhookEmbed.builder().build())
+                .build();
+
+        String expected = "{\"content\":\"only content\",\"embeds\":[{}]}";
+        assertEquals(expected, serialize(WebhookSerializer.jackson(), message));
+        assertEquals(expected, serialize(WebhookSerializer.streaming(), message));
+        assertEquals("{}", serialize(WebhookSerializer.streaming(), WebhookMessage.builder().build()));
+    }
+
+    @Test
+    void testEscapingMatchesJackson() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (char c = 0; c < 0x80; c++) {
+            content.append(c);
+        }
+        content.append("é ß € 日本 😀   ￿");
+        WebhookMessage message = WebhookMessage.builder().content(content.toString()).build();
+
+        assertEquals(serialize(WebhookSerializer.jackson(), message),
+                serialize(WebhookSerializer.streaming(), message));
+    }
+
+    private static WebhookMessage goldenMessage() {
+        return WebhookMessage.builder()
+                .content("Line one\nLine \"two\" with \\ and tab\t ✅ 🚀")
+                .username("Crest <Bot>")
+                .avatarUrl("https://example.com/avatar.png?size=64&format=png")
+                .threadName("server-status")
+                .flags(4)
+                .addEmbed(WebhookEmbed.builder()
+                        .title("Server Status")
+                        .description("Ünïcödé and control \u0001 characters")
+                        .url("https://example.com/status")
+                        .color(0x00FF00)
+                        .timestamp(Instant.parse("2024-01-01T12:00:00.123456789Z"))
+                        .footer("Crest", "https://example.com/footer.png")
+                        .image(new WebhookEmbed.Image("https://example.com/image.png", null, 480, 640))
+                        .thumbnail("https://example.com/thumb.png")
+                        .author("Minecraft Server", "https://minecraft.net", "https://minecraft.net/icon.png")
+                        .addField("Players", "15/50", true)
+                        .addField("Uptime", "2 days", false)
+                        .addField(new WebhookEmbed.Field("Null inline", "value", null))
+                        .build())
+                .addEmbed(WebhookEmbed.builder()
+                        .title("Second")
+                        .color(-1)
+                        .timestamp(Instant.parse("2024-06-30T00:00:00Z"))
+                        .footer("Footer only")
+                        .build())
+                .addAttachment(WebhookAttachment.of(Path.of("latest.log")))
+                .addAttachment(WebhookAttachment.of(Path.of("crash.bin"), "crash-report.bin")
+                        .withDescription("JVM crash dump"))
+                .build();
+    }
+
+    private static String serialize(WebhookSerializer serializer, WebhookMessage message) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        serializer.write(message, output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private static String readGolden(String resource) throws IOException {
+        try (InputStream input = WebhookSerializerTest.class.getClassLoader().getResourceAsStream(resource)) {
+            assertNotNull(input, resource);
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8).strip();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.moocrest.webhook.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void testPercentilesStayWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        assertEquals(100_000, histogram.count());
+        assertEquals(100_000_000, histogram.max());
+        assertEquals(50_000_500.0, histogram.mean(), 1.0);
+        assertEquals(50_000_000, histogram.valueAtPercentile(50), 50_000_000 / 32.0);
+        assertEquals(99_000_000, histogram.valueAtPercentile(99), 99_000_000 / 32.0);
+        assertEquals(99_900_000, histogram.valueAtPercentile(99.9), 99_900_000 / 32.0);
+        assertEquals(100_000_000, histogram.valueAtPercentile(100));
+    }
+
+    @Test
+    void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3);
+        histogram.record(7);
+        histogram.record(-5);
+
+        assertEquals(0, histogram.valueAtPercentile(0));
+        assertEquals(3, histogram.valueAtPercentile(50));
+        assertEquals(7, histogram.valueAtPercentile(100));
+    }
+
+    @Test
+    void testBucketIndexesCoverTheWholeRange() {
+        long previous = -1;
+        for (int shift = 0; shift < 63; shift++) {
+            long value = 1L << shift;
+            int index = LatencyHistogram.indexOf(value);
+            assertTrue(index > previous);
+            assertTrue(LatencyHistogram.highestEquivalentValue(index) >= value);
+            previous = index;
+        }
+        assertTrue(LatencyHistogram.highestEquivalentValue(LatencyHistogram.indexOf(Long.MAX_VALUE)) == Long.MAX_VALUE);
+    }
+
+    @Test
+    void testRejectsInvalidPercentile() {
+        assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram().valueAtPercentile(101));
+    }
+}
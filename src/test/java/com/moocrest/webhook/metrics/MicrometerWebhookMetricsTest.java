@@ -0,0 +1,45 @@
+package com.moocrest.webhook.metrics;
+
+import com.moocrest.webhook.util.WebhookEndpoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicrometerWebhookMetricsTest {
+
+    private static final WebhookEndpoint ENDPOINT =
+            WebhookEndpoint.of("https://discord.com/api/webhooks/123456789/metrics-token");
+
+    @Test
+    void testRecordsMetersPerEndpointAndStatus() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerWebhookMetrics metrics = new MicrometerWebhookMetrics(registry);
+
+        metrics.serialized(TimeUnit.MICROSECONDS.toNanos(15));
+        metrics.rateLimitWaited(ENDPOINT, TimeUnit.MILLISECONDS.toNanos(2));
+        metrics.requestStarted(ENDPOINT);
+        assertEquals(1.0, registry.get("crest.webhook.requests.inflight").gauge().value(), 0.0);
+        metrics.responseReceived(ENDPOINT, 204, TimeUnit.MILLISECONDS.toNanos(40));
+        metrics.requestStarted(ENDPOINT);
+        metrics.responseReceived(ENDPOINT, 429, TimeUnit.MILLISECONDS.toNanos(30));
+        metrics.retried(ENDPOINT, 2);
+        metrics.requestStarted(ENDPOINT);
+        metrics.requestFailed(ENDPOINT, new IOException("reset"), TimeUnit.MILLISECONDS.toNanos(5));
+
+        assertEquals(1.0, registry.get("crest.webhook.requests")
+                .tag("endpoint", "123456789").tag("status", "204").counter().count(), 0.0);
+        assertEquals(1.0, registry.get("crest.webhook.requests")
+                .tag("endpoint", "123456789").tag("status", "429").counter().count(), 0.0);
+        assertEquals(1.0, registry.get("crest.webhook.requests.failed").counter().count(), 0.0);
+        assertEquals(1.0, registry.get("crest.webhook.retries").counter().count(), 0.0);
+        assertEquals(3, registry.get("crest.webhook.request.latency").timer().count());
+        assertEquals(1, registry.get("crest.webhook.serialization").timer().count());
+        assertEquals(2.0, registry.get("crest.webhook.ratelimit.wait").timer().totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(0.0, registry.get("crest.webhook.requests.inflight").gauge().value(), 0.0);
+    }
+}
@@ -0,0 +1,235 @@
+package com.moocrest.webhook.outbox;
+
+import com.moocrest.webhook.model.WebhookEmbed;
+import com.moocrest.webhook.model.WebhookMessage;
+import com.moocrest.webhook.sender.CircuitBreakerPolicy;
+import com.moocrest.webhook.sender.DeliveryQueuePolicy;
+import com.moocrest.webhook.sender.OverflowPolicy;
+import com.moocrest.webhook.sender.RateLimitPolicy;
+import com.moocrest.webhook.sender.RetryPolicy;
+import com.moocrest.webhook.sender.WebhookClient;
+import com.moocrest.webhook.testing.StubDiscordServer;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebhookOutboxTest {
+
+    private static final String WEBHOOK_URL = "https://discord.com/api/webhooks/123456789/outbox-token";
+
+    @Test
+    void testUnacknowledgedEntriesAreReplayedOnStartup() throws Exception {
+        Path directory = Files.createTempDirectory("crest-outbox");
+        WebhookMessage message = WebhookMessage.builder()
+                .content("Server crashed")
+                .addEmbed(WebhookEmbed.builder().title("Crash").addField("Cause", "OutOfMemoryError").build())
+                .build();
+
+        try (WebhookClient offline = client(URI.create("http://127.0.0.1:" + unusedPort() + "/api/"))) {
+            WebhookOutbox outbox = WebhookOutbox.open(offline, OutboxPolicy.durable(directory));
+            assertThrows(Exception.class, () -> outbox.send(WEBHOOK_URL, message).join());
+            assertEquals(1, outbox.pendingCount());
+            outbox.close();
+        }
+
+        AtomicInteger received = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/webhooks/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            received.incrementAndGet();
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+
+        try (WebhookClient online = client(URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/api/"))) {
+            WebhookOutbox outbox = WebhookOutbox.open(online, OutboxPolicy.lowLatency(directory));
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (outbox.pendingCount() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, outbox.pendingCount());
+            assertEquals(1, received.get());
+
+            assertTrue(outbox.send(WEBHOOK_URL, message).join());
+            outbox.close();
+        } finally {
+            server.stop(0);
+        }
+
+        try (WebhookClient offline = client(URI.create("http://127.0.0.1:" + unusedPort() + "/api/"))) {
+            WebhookOutbox outbox = WebhookOutbox.open(offline, OutboxPolicy.durable(directory));
+            assertEquals(0, outbox.pendingCount());
+            outbox.close();
+        }
+    }
+
+    @Test
+    void testAcknowledgementsSurviveSegmentCompaction() throws Exception {
+        Path directory = Files.createTempDirectory("crest-outbox");
+        OutboxPolicy policy = new OutboxPolicy(directory, 1024, FsyncPolicy.ALWAYS, Duration.ZERO,
+                Duration.ofMillis(20));
+        AtomicBoolean holding = new AtomicBoolean(true);
+        Map<String, AtomicInteger> delivered = new ConcurrentHashMap<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/webhooks/", exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes());
+            String name = body.replaceAll("(?s).*\"content\":\"([a-z]+):.*", "$1");
+            boolean reject = name.equals("stuck") || name.equals("held") && holding.get();
+            if (!reject) {
+                delivered.computeIfAbsent(name, key -> new AtomicInteger()).incrementAndGet();
+            }
+            exchange.sendResponseHeaders(reject ? 503 : 204, -1);
+            exchange.close();
+        });
+        server.start();
+
+        try (WebhookClient online = WebhookClient.builder()
+                .baseUri(URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/api/"))
+                .retryPolicy(RetryPolicy.noRetries())
+                .rateLimitPolicy(new RateLimitPolicy(1000, Duration.ofSeconds(1)))
+                .circuitBreakerPolicy(CircuitBreakerPolicy.disabled())
+                .build()) {
+            WebhookOutbox outbox = WebhookOutbox.open(online, policy);
+            assertThrows(Exception.class, () -> outbox.send(WEBHOOK_URL, padded("stuck", 300)).join());
+            assertThrows(Exception.class, () -> outbox.send(WEBHOOK_URL, padded("held", 300)).join());
+            assertTrue(outbox.send(WEBHOOK_URL, padded("next", 600)).join());
+
+            holding.set(false);
+            waitFor(() -> outbox.pendingCount() == 1);
+            assertTrue(outbox.send(WEBHOOK_URL, padded("last", 600)).join());
+            outbox.close();
+
+            for (int session = 0; session < 3; session++) {
+                WebhookOutbox reopened = WebhookOutbox.open(online, policy);
+                assertEquals(1, reopened.pendingCount());
+                Thread.sleep(100);
+                reopened.close();
+            }
+            assertEquals(1, delivered.get("held").get());
+            assertEquals(1, delivered.get("next").get());
+            assertEquals(1, delivered.get("last").get());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void testDroppedSendsStayPending() throws Exception {
+        Path directory = Files.createTempDirectory("crest-outbox");
+        try (StubDiscordServer server = StubDiscordServer.start();
+                WebhookClient client = server.clientBuilder()
+                        .deliveryQueue(new DeliveryQueuePolicy(0, 1, OverflowPolicy.DROP_NEWEST))
+                        .build()) {
+            server.latency(Duration.ofMillis(300));
+            WebhookOutbox outbox = WebhookOutbox.open(client, new OutboxPolicy(directory, 1024 * 1024,
+                    FsyncPolicy.NEVER, Duration.ZERO, Duration.ofMillis(50)));
+
+            CompletableFuture<Boolean> first = outbox.send(server.webhookUrl(1), padded("first", 10));
+            Thread.sleep(50);
+            assertFalse(outbox.send(server.webhookUrl(1), padded("second", 10)).join());
+            assertTrue(first.join());
+            assertEquals(1, outbox.pendingCount());
+
+            waitFor(() -> outbox.pendingCount() == 0);
+            assertEquals(2, server.requestCount());
+            outbox.close();
+        }
+    }
+
+    @Test
+    void testSendsRacingCloseAllComplete() throws Exception {
+        Path directory = Files.createTempDirectory("crest-outbox");
+        try (WebhookClient offline = WebhookClient.builder()
+                .baseUri(URI.create("http://127.0.0.1:" + unusedPort() + "/api/"))
+                .retryPolicy(RetryPolicy.noRetries())
+                .rateLimitPolicy(new RateLimitPolicy(100_000, Duration.ofSeconds(1)))
+                .circuitBreakerPolicy(CircuitBreakerPolicy.disabled())
+                .build()) {
+            WebhookOutbox outbox = WebhookOutbox.open(offline, new OutboxPolicy(directory, 1024 * 1024,
+                    FsyncPolicy.NEVER, Duration.ZERO, Duration.ofSeconds(30)));
+            List<CompletableFuture<Boolean>> sends = new ArrayList<>();
+            CountDownLatch sending = new CountDownLatch(200);
+            Thread sender = new Thread(() -> {
+                for (int i = 0; i < 2_000; i++) {
+                    sends.add(outbox.send(WEBHOOK_URL, padded("race", 10)));
+                    sending.countDown();
+                }
+            });
+            sender.start();
+            sending.await();
+            outbox.close();
+            sender.join();
+
+            for (CompletableFuture<Boolean> send : sends) {
+                assertTrue(send.handle((result, error) -> true).get(5, TimeUnit.SECONDS));
+            }
+            assertThrows(Exception.class, () -> outbox.send(WEBHOOK_URL, padded("late", 10)).join());
+            long persisted = sends.stream().filter(send -> !isClosedFailure(send)).count();
+            assertEquals(persisted, outbox.pendingCount());
+        }
+    }
+
+    @Test
+    void testRecordsSurviveTornTail() {
+        OutboxRecord record = OutboxRecord.enqueue(7, WEBHOOK_URL, "{\"content\":\"hi\"}".getBytes());
+        ByteBuffer encoded = record.encode();
+        ByteBuffer torn = ByteBuffer.allocate(encoded.remaining() * 2 - 3);
+        torn.put(encoded.duplicate()).put(encoded.duplicate().limit(encoded.remaining() - 3)).flip();
+
+        OutboxRecord decoded = OutboxRecord.decode(torn);
+        assertNotNull(decoded);
+        assertEquals(7, decoded.id());
+        assertEquals(WEBHOOK_URL, decoded.webhookUrl());
+        assertNull(OutboxRecord.decode(torn));
+    }
+
+    private static boolean isClosedFailure(CompletableFuture<Boolean> send) {
+        return send.handle((result, error) -> error != null && error.getMessage().contains("Outbox is closed")).join();
+    }
+
+        private static WebhookMessage padded(String name, int length) {
+        return WebhookMessage.builder().content(name + ":" + "x".repeat(length)).build();
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    private static WebhookClient client(URI baseUri) {
+        return WebhookClient.builder()
+                .baseUri(baseUri)
+                .retryPolicy(RetryPolicy.noRetries())
+                .build();
+    }
+
+    private static int unusedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
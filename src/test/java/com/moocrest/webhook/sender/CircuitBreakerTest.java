@@ -0,0 +1,114 @@
+package com.moocrest.webhook.sender;
+
+import com.moocrest.webhook.model.WebhookMessage;
+import com.moocrest.webhook.util.WebhookEndpoint;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private static final long OPEN_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final CircuitBreaker breaker = new CircuitBreaker(
+            new CircuitBreakerPolicy(3, 2, Duration.ofSeconds(30), true));
+
+    @Test
+    void testOpensAfterConsecutiveServerErrors() {
+        breaker.onResponse(500, 0);
+        breaker.onResponse(502, 0);
+        breaker.onResponse(204, 0);
+        breaker.onResponse(500, 0);
+        breaker.onResponse(503, 0);
+        assertEquals(CircuitState.CLOSED, breaker.state(0));
+
+        breaker.onResponse(500, 0);
+        assertEquals(CircuitState.OPEN, breaker.state(0));
+        assertFalse(breaker.tryAcquire(OPEN_NANOS - 1));
+    }
+
+    @Test
+    void testHalfOpenAllowsSingleProbe() {
+        breaker.onTransportFailure(new HttpTimeoutException("timed out"), 0);
+        breaker.onTransportFailure(new IOException("connection reset"), 0);
+        assertEquals(CircuitState.OPEN, breaker.state(0));
+        assertEquals(CircuitState.HALF_OPEN, breaker.state(OPEN_NANOS));
+
+        assertTrue(breaker.tryAcquire(OPEN_NANOS));
+        assertFalse(breaker.tryAcquire(OPEN_NANOS + 1));
+
+        breaker.onResponse(503, OPEN_NANOS + 2);
+        assertFalse(breaker.tryAcquire(OPEN_NANOS + 3));
+
+        assertTrue(breaker.tryAcquire(OPEN_NANOS * 2 + 2));
+        breaker.onResponse(204, OPEN_NANOS * 2 + 3);
+        assertEquals(CircuitState.CLOSED, breaker.state(OPEN_NANOS * 2 + 3));
+        assertTrue(breaker.tryAcquire(OPEN_NANOS * 2 + 4));
+    }
+
+    @Test
+    void testUnknownWebhookTripsPermanently() {
+        breaker.onResponse(404, 0);
+
+        assertEquals(CircuitState.PERMANENTLY_OPEN, breaker.state(Long.MAX_VALUE));
+        assertFalse(breaker.tryAcquire(OPEN_NANOS * 100));
+        breaker.onResponse(204, 0);
+        assertTrue(breaker.isPermanentlyOpen());
+
+        breaker.reset();
+        assertTrue(breaker.tryAcquire(0));
+    }
+
+    @Test
+    void testClientErrorsAndRateLimitsDoNotTrip() {
+        for (int i = 0; i < 10; i++) {
+            breaker.onResponse(400, 0);
+            breaker.onResponse(429, 0);
+        }
+        assertEquals(CircuitState.CLOSED, breaker.state(0));
+    }
+
+    @Test
+    void testDeletedWebhookFailsFastWithoutRequests() throws Exception {
+        AtomicInteger received = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/webhooks/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            received.incrementAndGet();
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.start();
+
+        WebhookEndpoint endpoint = WebhookEndpoint.of("https://discord.com/api/webhooks/123/deleted-token");
+        WebhookMessage message = WebhookMessage.builder().content("Hello").build();
+        try (WebhookClient client = WebhookClient.builder()
+                .baseUri(URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/api/"))
+                .build()) {
+            assertThrows(CompletionException.class, () -> client.sendWebhook(endpoint, message).join());
+            assertEquals(CircuitState.PERMANENTLY_OPEN, client.circuitState(endpoint));
+
+            for (int i = 0; i < 20; i++) {
+                CompletionException error = assertThrows(CompletionException.class,
+                        () -> client.sendWebhook(endpoint, message).join());
+                assertTrue(error.getCause().getMessage().contains("circuit breaker"));
+            }
+            assertEquals(1, received.get());
+
+            client.resetCircuit(endpoint);
+            assertEquals(CircuitState.CLOSED, client.circuitState(endpoint));
+        } finally {
+            server.stop(0);
+        }
+    }
+}
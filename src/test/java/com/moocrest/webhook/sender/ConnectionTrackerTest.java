@@ -0,0 +1,113 @@
+package com.moocrest.webhook.sender;
+
+import com.moocrest.webhook.util.WebhookEndpoint;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.KeyStore;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionTrackerTest {
+
+    private static final WebhookEndpoint ENDPOINT =
+            WebhookEndpoint.of("https://discord.com/api/webhooks/111/first-token");
+    private static final long IDLE_TIMEOUT = TimeUnit.SECONDS.toNanos(30);
+    private static final char[] PASSWORD = "changeit".toCharArray();
+
+    private final ConnectionTracker tracker = new ConnectionTracker(IDLE_TIMEOUT);
+    private HttpsServer server;
+    private URI uri;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpsServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setHttpsConfigurator(new HttpsConfigurator(sslContext()));
+        server.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+        uri = URI.create("https://localhost:" + server.getAddress().getPort() + "/");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testSecondResponseOnOneTlsConnectionCountsAsReused() throws Exception {
+        HttpClient client = client();
+
+        assertFalse(record(client.send(request(), HttpResponse.BodyHandlers.discarding()), 0));
+        assertTrue(record(client.send(request(), HttpResponse.BodyHandlers.discarding()), 1));
+    }
+
+    @Test
+    void testNewTlsConnectionCountsAsOpened() throws Exception {
+        assertFalse(record(client().send(request(), HttpResponse.BodyHandlers.discarding()), 0));
+        assertFalse(record(client().send(request(), HttpResponse.BodyHandlers.discarding()), 1));
+    }
+
+    @Test
+    void testKnownSessionAfterIdleTimeoutCountsAsOpened() throws Exception {
+        HttpClient client = client();
+
+        assertFalse(record(client.send(request(), HttpResponse.BodyHandlers.discarding()), 0));
+        assertFalse(record(client.send(request(), HttpResponse.BodyHandlers.discarding()), IDLE_TIMEOUT));
+    }
+
+    @Test
+    void testPlainHttpFallsBackToIdleTimeout() {
+        assertFalse(tracker.record(ENDPOINT, ENDPOINT.uri(), Optional.empty(), 0));
+        assertTrue(tracker.record(ENDPOINT, ENDPOINT.uri(), Optional.empty(), 1));
+        assertFalse(tracker.record(ENDPOINT, ENDPOINT.uri(), Optional.empty(), 1 + IDLE_TIMEOUT));
+    }
+
+    private boolean record(HttpResponse<?> response, long now) {
+        assertTrue(response.sslSession().isPresent());
+        return tracker.record(ENDPOINT, response.uri(), response.sslSession(), now);
+    }
+
+    private HttpRequest request() {
+        return HttpRequest.newBuilder(uri).GET().build();
+    }
+
+    private static HttpClient client() throws Exception {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .sslContext(sslContext())
+                .build();
+    }
+
+    private static SSLContext sslContext() throws Exception {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream input = ConnectionTrackerTest.class.getResourceAsStream("/localhost.p12")) {
+            keyStore.load(input, PASSWORD);
+        }
+        KeyManagerFactory keys = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keys.init(keyStore, PASSWORD);
+        TrustManagerFactory trust = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        trust.init(keyStore);
+        SSLContext context = SSLContext.getInstance("TLS");
+        context.init(keys.getKeyManagers(), trust.getTrustManagers(), null);
+        return context;
+    }
+}
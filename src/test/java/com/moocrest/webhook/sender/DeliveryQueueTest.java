@@ -0,0 +1,126 @@
+package com.moocrest.webhook.sender;
+
+import com.moocrest.webhook.util.WebhookException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeliveryQueueTest {
+
+    @Test
+    void testQueuesBeyondConcurrencyAndReportsDepth() {
+        DeliveryQueue queue = new DeliveryQueue(new DeliveryQueuePolicy(2, 1, OverflowPolicy.FAIL_FAST), Runnable::run);
+        CompletableFuture<Boolean> firstSend = new CompletableFuture<>();
+
+        CompletableFuture<Boolean> first = queue.submit(() -> firstSend);
+        CompletableFuture<Boolean> second = queue.submit(() -> CompletableFuture.completedFuture(true));
+
+        assertEquals(1, queue.inFlight());
+        assertEquals(1, queue.depth());
+        assertFalse(second.isDone());
+
+        firstSend.complete(true);
+
+        assertTrue(first.join());
+        assertTrue(second.join());
+        assertEquals(0, queue.inFlight());
+        assertEquals(0, queue.depth());
+    }
+
+    @Test
+    void testFailFastRejectsWhenFull() {
+        DeliveryQueue queue = new DeliveryQueue(new DeliveryQueuePolicy(1, 1, OverflowPolicy.FAIL_FAST), Runnable::run);
+
+        queue.submit(CompletableFuture::new);
+        queue.submit(CompletableFuture::new);
+        CompletableFuture<Boolean> rejected = queue.submit(CompletableFuture::new);
+
+        CompletionException error = assertThrows(CompletionException.class, rejected::join);
+        assertInstanceOf(WebhookException.class, error.getCause());
+    }
+
+    @Test
+    void testDropPolicies() {
+        DeliveryQueue dropOldest = new DeliveryQueue(new DeliveryQueuePolicy(1, 1, OverflowPolicy.DROP_OLDEST),
+                Runnable::run);
+        dropOldest.submit(CompletableFuture::new);
+        CompletableFuture<Boolean> oldest = dropOldest.submit(CompletableFuture::new);
+        CompletableFuture<Boolean> newest = dropOldest.submit(CompletableFuture::new);
+
+        assertFalse(oldest.join());
+        assertFalse(newest.isDone());
+        assertEquals(1, dropOldest.depth());
+
+        DeliveryQueue dropNewest = new DeliveryQueue(new DeliveryQueuePolicy(1, 1, OverflowPolicy.DROP_NEWEST),
+                Runnable::run);
+        dropNewest.submit(CompletableFuture::new);
+        CompletableFuture<Boolean> queued = dropNewest.submit(CompletableFuture::new);
+        CompletableFuture<Boolean> dropped = dropNewest.submit(CompletableFuture::new);
+
+        assertFalse(dropped.join());
+        assertFalse(queued.isDone());
+    }
+
+    @Test
+    void testBlockWithZeroCapacityWakesWhenSendCompletes() throws Exception {
+        DeliveryQueue queue = new DeliveryQueue(new DeliveryQueuePolicy(0, 1, OverflowPolicy.BLOCK), Runnable::run);
+        CompletableFuture<Boolean> firstSend = new CompletableFuture<>();
+        queue.submit(() -> firstSend);
+
+        CompletableFuture<Boolean> second = CompletableFuture.supplyAsync(
+                () -> queue.submit(() -> CompletableFuture.completedFuture(true)).join());
+        Thread.sleep(100);
+        assertFalse(second.isDone());
+
+        firstSend.complete(true);
+
+        assertTrue(second.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testNonBulkSendEvictsQueuedBulkWhenFull() {
+        DeliveryQueue queue = new DeliveryQueue(new DeliveryQueuePolicy(1, 1, OverflowPolicy.FAIL_FAST), Runnable::run);
+        queue.submit(CompletableFuture::new);
+        CompletableFuture<Boolean> bulk = queue.submit(DeliveryPriority.BULK, CompletableFuture::new);
+        CompletableFuture<Boolean> normal = queue.submit(DeliveryPriority.NORMAL, CompletableFuture::new);
+
+        assertFalse(bulk.join());
+        assertFalse(normal.isDone());
+        assertEquals(1, queue.depth());
+    }
+
+    @Test
+    void testCriticalUsesReservedHeadroom() {
+        DeliveryQueue queue = new DeliveryQueue(new DeliveryQueuePolicy(10, 8, OverflowPolicy.FAIL_FAST),
+                Runnable::run);
+        for (int i = 0; i < 7; i++) {
+            queue.submit(CompletableFuture::new);
+        }
+        CompletableFuture<Boolean> normal = queue.submit(CompletableFuture::new);
+
+        assertEquals(7, queue.inFlight());
+        assertEquals(1, queue.depth());
+
+        CompletableFuture<Boolean> critical = queue.submit(DeliveryPriority.CRITICAL,
+                () -> CompletableFuture.completedFuture(true));
+
+        assertTrue(critical.join());
+        assertFalse(normal.isDone());
+    }
+
+    @Test
+    void testDropOldestNeverDropsHigherPriorityForBulk() {
+        DeliveryQueue queue = new DeliveryQueue(new DeliveryQueuePolicy(1, 1, OverflowPolicy.DROP_OLDEST),
+                Runnable::run);
+        queue.submit(CompletableFuture::new);
+        CompletableFuture<Boolean> normal = queue.submit(CompletableFuture::new);
+        CompletableFuture<Boolean> bulk = queue.submit(DeliveryPriority.BULK, CompletableFuture::new);
+
+        assertFalse(bulk.join());
+        assertFalse(normal.isDone());
+    }
+}
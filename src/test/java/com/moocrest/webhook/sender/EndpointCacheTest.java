@@ -0,0 +1,48 @@
+package com.moocrest.webhook.sender;
+
+import com.moocrest.webhook.util.WebhookEndpoint;
+import com.moocrest.webhook.util.WebhookException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EndpointCacheTest {
+
+    private static final String FIRST_URL = "https://discord.com/api/webhooks/111/first-token";
+    private static final String SECOND_URL = "https://discord.com/api/webhooks/222/second-token";
+    private static final String THIRD_URL = "https://discord.com/api/webhooks/333/third-token";
+
+    @Test
+    void testEvictsLeastRecentlyUsedEndpoint() {
+        EndpointCache cache = new EndpointCache(2);
+        WebhookEndpoint first = cache.get(FIRST_URL);
+        WebhookEndpoint second = cache.get(SECOND_URL);
+
+        assertSame(first, cache.get(FIRST_URL));
+        cache.get(THIRD_URL);
+
+        assertEquals(2, cache.size());
+        assertSame(first, cache.get(FIRST_URL));
+        assertNotSame(second, cache.get(SECOND_URL));
+    }
+
+    @Test
+    void testRejectsInvalidUrlsWithoutCachingThem() {
+        EndpointCache cache = new EndpointCache(2);
+
+        assertThrows(WebhookException.class, () -> cache.get("https://example.com/api/webhooks/1/token"));
+        assertThrows(WebhookException.class, () -> cache.get(null));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testClearDropsEveryEndpoint() {
+        EndpointCache cache = new EndpointCache(2);
+        WebhookEndpoint first = cache.get(FIRST_URL);
+
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertNotSame(first, cache.get(FIRST_URL));
+    }
+}
@@ -0,0 +1,148 @@
+package com.moocrest.webhook.sender;
+
+import com.moocrest.webhook.util.WebhookException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EndpointSequencerTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final RetryScheduler retryScheduler = new RetryScheduler(scheduler,
+            new RetryPolicy(3, Duration.ofMillis(20), Duration.ofMillis(20), 1.0, 0.0));
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void testPipelinesUpToRemainingQuota() {
+        AtomicInteger quota = new AtomicInteger(3);
+        EndpointSequencer sequencer = new EndpointSequencer(scheduler, retryScheduler, DeliveryPriority.NORMAL,
+                quota::get, 5, () -> { });
+        List<CompletableFuture<Boolean>> sends = new ArrayList<>();
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            CompletableFuture<Boolean> result = new CompletableFuture<>();
+            results.add(result);
+            sequencer.enqueue((attempt, turn, dispatched) -> {
+                CompletableFuture<Boolean> send = new CompletableFuture<>();
+                sends.add(send);
+                return send;
+            }, result);
+        }
+
+        sequencer.pump();
+        assertEquals(3, sends.size());
+        assertEquals(2, sequencer.pending());
+
+        quota.set(0);
+        sends.get(0).complete(true);
+        assertEquals(3, sends.size());
+
+        quota.set(1);
+        sends.get(1).complete(true);
+        assertEquals(4, sends.size());
+        assertTrue(results.get(0).join());
+        assertTrue(results.get(1).join());
+    }
+
+    @Test
+    void testEachSendWaitsForThePreviousDispatch() {
+        EndpointSequencer sequencer = new EndpointSequencer(scheduler, retryScheduler, DeliveryPriority.NORMAL,
+                () -> 5, 5, () -> { });
+        List<CompletableFuture<Void>> turns = new ArrayList<>();
+        List<CompletableFuture<Void>> dispatches = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            sequencer.enqueue((attempt, turn, dispatched) -> {
+                turns.add(turn);
+                dispatches.add(dispatched);
+                return new CompletableFuture<>();
+            }, new CompletableFuture<>());
+        }
+
+        sequencer.pump();
+
+        assertEquals(3, turns.size());
+        assertTrue(turns.get(0).isDone());
+        assertSame(dispatches.get(0), turns.get(1));
+        assertSame(dispatches.get(1), turns.get(2));
+        assertFalse(turns.get(2).isDone());
+    }
+
+    @Test
+    void testStartsOneSendWhenQuotaIsExhausted() {
+        EndpointSequencer sequencer = new EndpointSequencer(scheduler, retryScheduler, DeliveryPriority.NORMAL,
+                () -> 0, 5, () -> { });
+        AtomicInteger started = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            sequencer.enqueue((attempt, turn, dispatched) -> {
+                started.incrementAndGet();
+                return new CompletableFuture<>();
+            }, new CompletableFuture<>());
+        }
+
+        sequencer.pump();
+
+        assertEquals(1, started.get());
+        assertEquals(1, sequencer.inFlight());
+    }
+
+    @Test
+    void testFailedSendHoldsBackLaterMessages() {
+        EndpointSequencer sequencer = new EndpointSequencer(scheduler, retryScheduler, DeliveryPriority.NORMAL,
+                () -> 5, 1, () -> { });
+        List<String> sent = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            String name = "m" + i;
+            CompletableFuture<Boolean> result = new CompletableFuture<>();
+            results.add(result);
+            sequencer.enqueue((attempt, turn, dispatched) -> {
+                sent.add(name + "#" + attempt);
+                return name.equals("m1") && attempt == 1
+                        ? CompletableFuture.failedFuture(WebhookException.httpError(503, "Unavailable"))
+                        : CompletableFuture.completedFuture(true);
+            }, result);
+        }
+
+        sequencer.pump();
+        results.forEach(CompletableFuture::join);
+
+        assertEquals(List.of("m0#1", "m1#1", "m1#2", "m2#1"), sent);
+    }
+
+    @Test
+    void testPermanentFailureDoesNotBlockTheQueue() {
+        AtomicBoolean idle = new AtomicBoolean();
+        EndpointSequencer sequencer = new EndpointSequencer(scheduler, retryScheduler, DeliveryPriority.NORMAL,
+                () -> 5, 1,
+                () -> idle.set(true));
+        CompletableFuture<Boolean> rejected = new CompletableFuture<>();
+        CompletableFuture<Boolean> delivered = new CompletableFuture<>();
+        sequencer.enqueue((attempt, turn, dispatched) -> CompletableFuture.failedFuture(
+                WebhookException.httpError(404, "Unknown")), rejected);
+        sequencer.enqueue((attempt, turn, dispatched) -> CompletableFuture.completedFuture(true), delivered);
+
+        sequencer.pump();
+
+        CompletionException error = assertThrows(CompletionException.class, rejected::join);
+        assertEquals(404, ((WebhookException) error.getCause()).statusCode());
+        assertTrue(delivered.join());
+        assertTrue(sequencer.isIdle());
+        assertTrue(idle.get());
+    }
+}
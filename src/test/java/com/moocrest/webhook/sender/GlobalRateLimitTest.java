@@ -0,0 +1,113 @@
+package com.moocrest.webhook.sender;
+
+import com.moocrest.webhook.model.WebhookMessage;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GlobalRateLimitTest {
+
+    private final AtomicInteger received = new AtomicInteger();
+    private final ExecutorService serverExecutor = Executors.newCachedThreadPool();
+    private volatile int limitedRequests = Integer.MAX_VALUE;
+    private HttpServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/webhooks/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            if (received.incrementAndGet() <= limitedRequests) {
+                exchange.getResponseHeaders().add("Retry-After", "0.25");
+                exchange.getResponseHeaders().add("X-RateLimit-Global", "true");
+                exchange.getResponseHeaders().add("X-RateLimit-Scope", "global");
+                byte[] body = "{\"message\":\"You are being rate limited.\",\"global\":true}".getBytes();
+                exchange.sendResponseHeaders(429, body.length);
+                exchange.getResponseBody().write(body);
+            } else {
+                exchange.sendResponseHeaders(204, -1);
+            }
+            exchange.close();
+        });
+        server.setExecutor(serverExecutor);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void testParsesFractionalRetryAfterAndScope() {
+        HttpHeaders global = HttpHeaders.of(Map.of(
+                "Retry-After", List.of("1.337"),
+                "X-RateLimit-Scope", List.of("global")), (name, value) -> true);
+        HttpHeaders shared = HttpHeaders.of(Map.of(
+                "Retry-After", List.of("garbage"),
+                "X-RateLimit-Scope", List.of("shared")), (name, value) -> true);
+
+        assertEquals(1_337_000_000L, RateLimitHeaders.retryAfterNanos(global));
+        assertTrue(RateLimitHeaders.isGlobal(global));
+        assertEquals(TimeUnit.SECONDS.toNanos(1), RateLimitHeaders.retryAfterNanos(shared));
+        assertFalse(RateLimitHeaders.isGlobal(shared));
+    }
+
+    @Test
+    void testGlobalLimitPausesAllSends() throws Exception {
+        try (WebhookClient client = client()) {
+            List<CompletableFuture<Boolean>> sends = sendToManyWebhooks(client, 50);
+
+            Thread.sleep(1_500);
+            int requests = received.get();
+            assertTrue(requests <= 50 + 12, "sent " + requests + " requests while globally rate limited");
+            assertTrue(sends.stream().noneMatch(CompletableFuture::isDone));
+        }
+    }
+
+    @Test
+    void testSendsResumeOnceGlobalLimitClears() {
+        limitedRequests = 10;
+        try (WebhookClient client = client()) {
+            List<CompletableFuture<Boolean>> sends = sendToManyWebhooks(client, 20);
+
+            for (CompletableFuture<Boolean> send : sends) {
+                assertTrue(send.join());
+            }
+            assertTrue(received.get() <= 20 + 10);
+        }
+    }
+
+    private WebhookClient client() {
+        return WebhookClient.builder()
+                .baseUri(URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/api/"))
+                .retryPolicy(RetryPolicy.exponential(50, Duration.ofMillis(10), Duration.ofMillis(50)))
+                .build();
+    }
+
+    private static List<CompletableFuture<Boolean>> sendToManyWebhooks(WebhookClient client, int webhooks) {
+        List<CompletableFuture<Boolean>> sends = new ArrayList<>();
+        for (int i = 0; i < webhooks; i++) {
+            sends.add(client.sendWebhook("https://discord.com/api/webhooks/" + (1000 + i) + "/token",
+                    WebhookMessage.builder().content("Alert " + i).build()));
+        }
+        return sends;
+    }
+}
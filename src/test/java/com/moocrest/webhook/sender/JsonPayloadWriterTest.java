@@ -0,0 +1,80 @@
+package com.moocrest.webhook.sender;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moocrest.webhook.model.WebhookEmbed;
+import com.moocrest.webhook.model.WebhookMessage;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonPayloadWriterTest {
+
+    private final ObjectMapper objectMapper = JacksonWebhookSerializer.defaultObjectMapper();
+
+    @Test
+    void testWritesSameJsonAsObjectMapper() throws Exception {
+        WebhookMessage message = WebhookMessage.builder()
+                .content("Server started ✅")
+                .username("Minecraft Bot")
+                .addEmbed(WebhookEmbed.builder()
+                        .title("Server Status")
+                        .addField("Players", "15/50", true)
+                        .footer("Crest")
+                        .build())
+                .build();
+        JsonPayloadWriter writer = new JsonPayloadWriter(WebhookSerializer.jackson(objectMapper), new PayloadPool(4));
+
+        PayloadBuffer payload = writer.write(message);
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(message), payload.toByteArray());
+        assertArrayEquals(payload.toByteArray(), publish(payload));
+        assertEquals(payload.length(), payload.bodyPublisher().contentLength());
+    }
+
+    @Test
+    void testReleasedBuffersAreReused() {
+        JsonPayloadWriter writer = new JsonPayloadWriter(WebhookSerializer.jackson(objectMapper), new PayloadPool(4));
+
+        PayloadBuffer first = writer.write(WebhookMessage.builder().content("first").build());
+        first.release();
+        PayloadBuffer second = writer.write(WebhookMessage.builder().content("second").build());
+
+        assertSame(first, second);
+        assertEquals("{\"content\":\"second\"}", new String(second.toByteArray()));
+
+        second.markNotRecyclable();
+        second.release();
+        assertNotSame(second, writer.write(WebhookMessage.builder().content("third").build()));
+    }
+
+    private static byte[] publish(PayloadBuffer payload) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        payload.bodyPublisher().subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                byte[] bytes = new byte[item.remaining()];
+                item.get(bytes);
+                output.writeBytes(bytes);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                fail(throwable.getMessage());
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,59 @@
+package com.moocrest.webhook.sender;
+
+import com.moocrest.webhook.model.WebhookEmbed;
+import com.moocrest.webhook.model.WebhookMessage;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageCoalescerTest {
+
+    @Test
+    void testMergesContentAndEmbeds() {
+        List<WebhookMessage> messages = List.of(
+                WebhookMessage.builder().content("Steve joined").build(),
+                WebhookMessage.builder().content("Alex joined")
+                        .addEmbed(WebhookEmbed.builder().title("Alex").build())
+                        .build());
+
+        List<List<WebhookMessage>> groups = MessageCoalescer.group(messages, Function.identity());
+        assertEquals(1, groups.size());
+
+        WebhookMessage merged = MessageCoalescer.merge(groups.get(0));
+        assertEquals("Steve joined\nAlex joined", merged.content());
+        assertEquals(1, merged.embeds().size());
+    }
+
+    @Test
+    void testRespectsDiscordLimits() {
+        List<WebhookMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            messages.add(WebhookMessage.builder()
+                    .addEmbed(WebhookEmbed.builder().title("Player " + i).build())
+                    .build());
+        }
+        messages.add(WebhookMessage.builder().content("x".repeat(1500)).build());
+        messages.add(WebhookMessage.builder().content("y".repeat(1500)).build());
+
+        List<List<WebhookMessage>> groups = MessageCoalescer.group(messages, Function.identity());
+
+        assertEquals(4, groups.size());
+        assertEquals(10, groups.get(0).size());
+        assertEquals(10, groups.get(1).size());
+        assertEquals(6, groups.get(2).size());
+        assertEquals(1, groups.get(3).size());
+    }
+
+    @Test
+    void testDoesNotMergeDifferentIdentities() {
+        List<WebhookMessage> messages = List.of(
+                WebhookMessage.builder().content("one").username("Bot A").build(),
+                WebhookMessage.builder().content("two").username("Bot B").build());
+
+        assertEquals(2, MessageCoalescer.group(messages, Function.identity()).size());
+    }
+}
@@ -0,0 +1,70 @@
+package com.moocrest.webhook.sender;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moocrest.webhook.model.WebhookEmbed;
+import com.moocrest.webhook.model.WebhookMessage;
+import com.moocrest.webhook.util.DiscordLimits;
+import com.moocrest.webhook.util.LimitViolation;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PreparedWebhookMessageTest {
+
+    private final ObjectMapper objectMapper = JacksonWebhookSerializer.defaultObjectMapper();
+    private final JsonPayloadWriter writer = new JsonPayloadWriter(WebhookSerializer.jackson(objectMapper), new PayloadPool(4));
+
+    @Test
+    void testSplicesEscapedValuesIntoSlots() throws Exception {
+        PreparedWebhookMessage prepared = writer.prepare(joinMessage("{{player}}", "{{time}}"));
+        String player = "Steve \"the\" Miner\n✅ 😀";
+
+        PayloadBuffer payload = writer.write(prepared, Map.of("player", player, "time", "12:00"));
+
+        assertEquals(Set.of("player", "time"), prepared.slotNames());
+        assertArrayEquals(objectMapper.writeValueAsBytes(joinMessage(player, "12:00")), payload.toByteArray());
+    }
+
+    @Test
+    void testStaticMessagesAreServedFromCache() throws Exception {
+        WebhookMessage startup = joinMessage("Server", "now");
+        PreparedMessageCache cache = new PreparedMessageCache(2);
+
+        PreparedWebhookMessage first = cache.get(startup, writer::prepare);
+        PreparedWebhookMessage second = cache.get(joinMessage("Server", "now"), writer::prepare);
+
+        assertSame(first, second);
+        assertTrue(first.slotNames().isEmpty());
+        assertArrayEquals(objectMapper.writeValueAsBytes(startup), writer.write(first, Map.of()).toByteArray());
+
+        cache.get(joinMessage("a", "b"), writer::prepare);
+        cache.get(joinMessage("c", "d"), writer::prepare);
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testChecksLimitsAgainstSplicedValues() {
+        PreparedWebhookMessage prepared = writer.prepare(joinMessage("{{player}}", "{{time}}"));
+        String player = "p".repeat(4080);
+
+        assertNull(prepared.check(Map.of("player", "Steve", "time", "12:00")));
+        assertEquals(DiscordLimits.check(joinMessage(player, "12:00")),
+                prepared.check(Map.of("player", player, "time", "12:00")));
+        assertEquals(new LimitViolation("embeds[0].description", 4102, 4096),
+                prepared.check(Map.of("player", player)));
+    }
+
+    private static WebhookMessage joinMessage(String player, String time) {
+        return WebhookMessage.builder()
+                .addEmbed(WebhookEmbed.builder()
+                        .description("**" + player + "** joined the server")
+                        .color(0x00AA00)
+                        .thumbnail("https://mc-heads.net/avatar/" + player)
+                        .footer("Joined at " + time)
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.moocrest.webhook.sender;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriorityLanesTest {
+
+    @Test
+    void testWeightedRoundRobinKeepsBulkMoving() {
+        PriorityLanes<String> lanes = new PriorityLanes<>();
+        for (int i = 0; i < 40; i++) {
+            lanes.add(DeliveryPriority.CRITICAL, "c");
+            lanes.add(DeliveryPriority.NORMAL, "n");
+            lanes.add(DeliveryPriority.BULK, "b");
+        }
+
+        List<String> firstRound = new ArrayList<>();
+        for (int i = 0; i < 21; i++) {
+            firstRound.add(lanes.poll());
+        }
+
+        assertEquals(16, firstRound.stream().filter("c"::equals).count());
+        assertEquals(4, firstRound.stream().filter("n"::equals).count());
+        assertEquals(1, firstRound.stream().filter("b"::equals).count());
+        assertEquals(99, lanes.size());
+    }
+
+    @Test
+    void testFallsThroughToLowerLanesWhenHigherAreEmpty() {
+        PriorityLanes<String> lanes = new PriorityLanes<>();
+        lanes.add(DeliveryPriority.BULK, "b1");
+        lanes.add(DeliveryPriority.BULK, "b2");
+        lanes.add(DeliveryPriority.NORMAL, "n1");
+
+        assertEquals("n1", lanes.poll());
+        assertEquals("b1", lanes.poll());
+        assertEquals("b2", lanes.poll());
+        assertNull(lanes.poll());
+        assertTrue(lanes.isEmpty());
+    }
+
+    @Test
+    void testLowestQueued() {
+        PriorityLanes<String> lanes = new PriorityLanes<>();
+        assertNull(lanes.lowestQueued());
+
+        lanes.add(DeliveryPriority.CRITICAL, "c");
+        lanes.add(DeliveryPriority.NORMAL, "n");
+
+        assertEquals(DeliveryPriority.NORMAL, lanes.lowestQueued());
+        assertEquals("n", lanes.poll(DeliveryPriority.NORMAL));
+        assertEquals(DeliveryPriority.CRITICAL, lanes.lowestQueued());
+    }
+}
@@ -0,0 +1,104 @@
+package com.moocrest.webhook.sender;
+
+import com.moocrest.webhook.util.WebhookException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetrySchedulerTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void testRetriesUntilSuccess() {
+        RetryScheduler retryScheduler = new RetryScheduler(scheduler,
+                RetryPolicy.exponential(3, Duration.ofMillis(5), Duration.ofMillis(20)));
+
+        CompletableFuture<Boolean> result = retryScheduler.execute(attempt -> attempt < 3
+                ? CompletableFuture.failedFuture(WebhookException.httpError(502, "Bad Gateway"))
+                : CompletableFuture.completedFuture(true));
+
+        assertTrue(result.join());
+    }
+
+    @Test
+    void testFailsWhenSchedulerShutsDownBeforeRetry() {
+        RetryScheduler retryScheduler = new RetryScheduler(scheduler,
+                RetryPolicy.exponential(3, Duration.ofSeconds(1), Duration.ofSeconds(1)));
+        CompletableFuture<Boolean> firstAttempt = new CompletableFuture<>();
+
+        CompletableFuture<Boolean> result = retryScheduler.execute(attempt -> firstAttempt);
+        scheduler.shutdownNow();
+        firstAttempt.completeExceptionally(WebhookException.httpError(503, "Unavailable"));
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> result.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(WebhookException.class, error.getCause());
+    }
+
+    @Test
+    void testClientErrorsAreNotRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+        RetryScheduler retryScheduler = new RetryScheduler(scheduler,
+                RetryPolicy.exponential(5, Duration.ofMillis(5), Duration.ofMillis(20)));
+
+        CompletableFuture<Boolean> result = retryScheduler.execute(attempt -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.failedFuture(WebhookException.httpError(404, "Unknown Webhook"));
+        });
+
+        CompletionException error = assertThrows(CompletionException.class, result::join);
+        assertEquals(404, ((WebhookException) error.getCause()).statusCode());
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void testFailingSendsDoNotHoldThreads() throws Exception {
+        int sends = 10_000;
+        int maxAttempts = 3;
+        AtomicInteger attempts = new AtomicInteger();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        RetryScheduler retryScheduler = new RetryScheduler(scheduler,
+                RetryPolicy.exponential(maxAttempts, Duration.ofMillis(500), Duration.ofSeconds(1)));
+
+        int threadsBefore = threads.getThreadCount();
+        List<CompletableFuture<Boolean>> results = new ArrayList<>(sends);
+        for (int i = 0; i < sends; i++) {
+            results.add(retryScheduler.execute(attempt -> {
+                attempts.incrementAndGet();
+                return CompletableFuture.failedFuture(new IOException("connection refused"));
+            }));
+        }
+
+        long inFlight = results.stream().filter(result -> !result.isDone()).count();
+        int threadsDuring = threads.getThreadCount();
+
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+                .handle((ignored, error) -> null)
+                .get(30, TimeUnit.SECONDS);
+
+        assertEquals(sends, inFlight);
+        assertTrue(threadsDuring - threadsBefore <= 2, "retries must not spawn threads per send");
+        assertEquals(sends * maxAttempts, attempts.get());
+        assertTrue(results.stream().allMatch(CompletableFuture::isCompletedExceptionally));
+    }
+}
@@ -0,0 +1,55 @@
+package com.moocrest.webhook.sender;
+
+import com.moocrest.webhook.model.WebhookMessage;
+import com.moocrest.webhook.testing.StubDiscordServer;
+import com.moocrest.webhook.util.WebhookException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebhookBatcherTest {
+
+    @Test
+    void testScheduledFlushDoesNotBlockTheScheduler() throws Exception {
+        try (StubDiscordServer server = StubDiscordServer.start();
+                WebhookClient client = server.clientBuilder()
+                        .rateLimitPolicy(new RateLimitPolicy(1, Duration.ofMillis(500)))
+                        .deliveryQueue(new DeliveryQueuePolicy(0, 1, OverflowPolicy.BLOCK))
+                        .build()) {
+            WebhookBatcher batcher = new WebhookBatcher(client, new BatchPolicy(Duration.ofMillis(10), 50));
+            assertTrue(client.sendWebhook(server.webhookUrl(1), message("warm")).join());
+
+            CompletableFuture<Boolean> waitingForQuota = batcher.submit(server.webhookUrl(1), message("one"));
+            Thread.sleep(100);
+            CompletableFuture<Boolean> blocked = batcher.submit(server.webhookUrl(2), message("two"));
+
+            assertTrue(waitingForQuota.get(5, TimeUnit.SECONDS));
+            assertTrue(blocked.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void testRejectsSubmitsAfterClose() throws Exception {
+        try (StubDiscordServer server = StubDiscordServer.start();
+                WebhookClient client = server.clientBuilder().build()) {
+            WebhookBatcher batcher = new WebhookBatcher(client, new BatchPolicy(Duration.ofSeconds(10), 50));
+            CompletableFuture<Boolean> pending = batcher.submit(server.webhookUrl(1), message("before"));
+
+            batcher.close();
+
+            assertTrue(pending.join());
+            CompletionException error = assertThrows(CompletionException.class,
+                    () -> batcher.submit(server.webhookUrl(1), message("after")).join());
+            assertInstanceOf(WebhookException.class, error.getCause());
+        }
+    }
+
+    private static WebhookMessage message(String content) {
+        return WebhookMessage.builder().content(content).build();
+    }
+}
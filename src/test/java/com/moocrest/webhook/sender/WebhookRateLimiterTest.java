@@ -0,0 +1,106 @@
+package com.moocrest.webhook.sender;
+
+import com.moocrest.webhook.util.WebhookEndpoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebhookRateLimiterTest {
+
+    private static final WebhookEndpoint FIRST_URL =
+            WebhookEndpoint.of("https://discord.com/api/webhooks/111/first-token");
+    private static final WebhookEndpoint SECOND_URL =
+            WebhookEndpoint.of("https://discord.com/api/webhooks/222/second-token?wait=true");
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void testBucketsAreIsolatedPerWebhook() throws Exception {
+        WebhookRateLimiter limiter = new WebhookRateLimiter(scheduler, new RateLimitPolicy(2, Duration.ofMillis(200)));
+
+        assertTrue(limiter.acquire(FIRST_URL).isDone());
+        assertTrue(limiter.acquire(FIRST_URL).isDone());
+
+        CompletableFuture<Void> queued = limiter.acquire(FIRST_URL);
+        assertFalse(queued.isDone());
+        assertTrue(limiter.acquire(SECOND_URL).isDone());
+
+        queued.get(2, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testLearnsLimitsFromResponseHeaders() throws Exception {
+        WebhookRateLimiter limiter = new WebhookRateLimiter(scheduler, RateLimitPolicy.discordDefaults());
+
+        assertTrue(limiter.acquire(FIRST_URL).isDone());
+        limiter.update(FIRST_URL, HttpHeaders.of(Map.of(
+                "X-RateLimit-Limit", List.of("5"),
+                "X-RateLimit-Remaining", List.of("0"),
+                "X-RateLimit-Reset-After", List.of("0.25"),
+                "X-RateLimit-Bucket", List.of("abcd")), (name, value) -> true));
+
+        CompletableFuture<Void> queued = limiter.acquire(FIRST_URL);
+        assertFalse(queued.isDone());
+        queued.get(2, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testRoutesReportingTheSameBucketShareIt() throws Exception {
+        WebhookRateLimiter limiter = new WebhookRateLimiter(scheduler, RateLimitPolicy.discordDefaults());
+        String execute = FIRST_URL.route();
+        String edit = FIRST_URL.route() + " PATCH";
+
+        assertTrue(limiter.acquire(execute, DeliveryPriority.NORMAL).isDone());
+        limiter.update(execute, bucketHeaders("abcd", 1));
+        assertTrue(limiter.acquire(edit, DeliveryPriority.NORMAL).isDone());
+        limiter.update(edit, bucketHeaders("abcd", 0));
+
+        CompletableFuture<Void> queued = limiter.acquire(execute, DeliveryPriority.NORMAL);
+        assertFalse(queued.isDone());
+        assertFalse(limiter.acquire(edit, DeliveryPriority.NORMAL).isDone());
+
+        assertTrue(limiter.acquire(SECOND_URL.route(), DeliveryPriority.NORMAL).isDone());
+        limiter.update(SECOND_URL.route(), bucketHeaders("abcd", 1));
+        assertTrue(limiter.acquire(SECOND_URL.route(), DeliveryPriority.NORMAL).isDone());
+
+        queued.get(2, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testIgnoresNegativeResetAfter() throws Exception {
+        WebhookRateLimiter limiter = new WebhookRateLimiter(scheduler, RateLimitPolicy.discordDefaults());
+
+        assertTrue(limiter.acquire(FIRST_URL).isDone());
+        limiter.update(FIRST_URL, HttpHeaders.of(Map.of(
+                "X-RateLimit-Limit", List.of("5"),
+                "X-RateLimit-Remaining", List.of("0"),
+                "X-RateLimit-Reset-After", List.of("-5")), (name, value) -> true));
+
+        CompletableFuture<Void> queued = limiter.acquire(FIRST_URL);
+        assertFalse(queued.isDone());
+        queued.get(3, TimeUnit.SECONDS);
+    }
+
+    private static HttpHeaders bucketHeaders(String bucketId, int remaining) {
+        return HttpHeaders.of(Map.of(
+                "X-RateLimit-Limit", List.of("2"),
+                "X-RateLimit-Remaining", List.of(String.valueOf(remaining)),
+                "X-RateLimit-Reset-After", List.of("0.3"),
+                "X-RateLimit-Bucket", List.of(bucketId)), (name, value) -> true);
+    }
+}
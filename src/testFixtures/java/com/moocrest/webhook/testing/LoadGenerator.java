@@ -0,0 +1,71 @@
+package com.moocrest.webhook.testing;
+
+import com.moocrest.webhook.metrics.LatencyHistogram;
+import com.moocrest.webhook.model.WebhookMessage;
+import com.moocrest.webhook.sender.WebhookClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiFunction;
+
+public final class LoadGenerator {
+
+    private final BiFunction<String, WebhookMessage, CompletableFuture<Boolean>> sender;
+
+    public LoadGenerator(BiFunction<String, WebhookMessage, CompletableFuture<Boolean>> sender) {
+        this.sender = Objects.requireNonNull(sender, "sender");
+    }
+
+    public LoadGenerator(WebhookClient client) {
+        this(Objects.requireNonNull(client, "client")::sendWebhook);
+    }
+
+    public LoadReport run(LoadProfile profile) {
+        LatencyHistogram latency = new LatencyHistogram();
+        LongAdder delivered = new LongAdder();
+        LongAdder dropped = new LongAdder();
+        LongAdder failed = new LongAdder();
+        List<String> webhookUrls = profile.webhookUrls();
+        long total = profile.totalRequests();
+        long interval = 1_000_000_000L / profile.targetRps();
+        List<CompletableFuture<Boolean>> sends = new ArrayList<>((int) Math.min(total, Integer.MAX_VALUE));
+
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long scheduledAt = start + i * interval;
+            long wait = scheduledAt - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            CompletableFuture<Boolean> send;
+            try {
+                send = sender.apply(webhookUrls.get((int) (i % webhookUrls.size())), profile.messages().get());
+            } catch (RuntimeException e) {
+                send = CompletableFuture.failedFuture(e);
+            }
+            sends.add(send.whenComplete((success, error) -> {
+                latency.record(System.nanoTime() - scheduledAt);
+                if (error != null) {
+                    failed.increment();
+                } else if (Boolean.TRUE.equals(success)) {
+                    delivered.increment();
+                } else {
+                    dropped.increment();
+                }
+            }));
+        }
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).exceptionally(error -> null).join();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        return new LoadReport(total, delivered.sum(), dropped.sum(), failed.sum(), elapsed,
+                Duration.ofNanos(latency.valueAtPercentile(50.0)),
+                Duration.ofNanos(latency.valueAtPercentile(99.0)),
+                Duration.ofNanos(latency.valueAtPercentile(99.9)),
+                Duration.ofNanos(latency.max()));
+    }
+}
@@ -0,0 +1,42 @@
+package com.moocrest.webhook.testing;
+
+import com.moocrest.webhook.model.WebhookMessage;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+public record LoadProfile(
+        int targetRps,
+        Duration duration,
+        List<String> webhookUrls,
+        Supplier<WebhookMessage> messages) {
+
+    public LoadProfile {
+        if (targetRps < 1) {
+            throw new IllegalArgumentException("targetRps must be at least 1");
+        }
+        if (duration == null || duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("duration must be positive");
+        }
+        if (webhookUrls == null || webhookUrls.isEmpty()) {
+            throw new IllegalArgumentException("webhookUrls must not be empty");
+        }
+        if (messages == null) {
+            throw new IllegalArgumentException("messages must not be null");
+        }
+        webhookUrls = List.copyOf(webhookUrls);
+    }
+
+    public static LoadProfile of(int targetRps, Duration duration, List<String> webhookUrls) {
+        WebhookMessage message = WebhookMessage.builder()
+                .content("Load test message")
+                .username("LoadGenerator")
+                .build();
+        return new LoadProfile(targetRps, duration, webhookUrls, () -> message);
+    }
+
+    public long totalRequests() {
+        return Math.max(1, duration.toNanos() * targetRps / 1_000_000_000L);
+    }
+}
@@ -0,0 +1,32 @@
+package com.moocrest.webhook.testing;
+
+import java.time.Duration;
+import java.util.Locale;
+
+public record LoadReport(
+        long sent,
+        long delivered,
+        long dropped,
+        long failed,
+        Duration elapsed,
+        Duration p50,
+        Duration p99,
+        Duration p999,
+        Duration max) {
+
+    public double throughput() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0.0 : delivered * 1_000_000_000.0 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "sent=%d delivered=%d dropped=%d failed=%d throughput=%.1f/s p50=%.2fms p99=%.2fms p999=%.2fms max=%.2fms",
+                sent, delivered, dropped, failed, throughput(), millis(p50), millis(p99), millis(p999), millis(max));
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+}
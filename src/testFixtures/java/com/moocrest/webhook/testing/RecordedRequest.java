@@ -0,0 +1,21 @@
+package com.moocrest.webhook.testing;
+
+import java.util.Map;
+
+public record RecordedRequest(
+        String method,
+        String webhookId,
+        String messageId,
+        String query,
+        String contentType,
+        String body,
+        Map<String, Long> files) {
+
+    public RecordedRequest {
+        files = files == null ? Map.of() : Map.copyOf(files);
+    }
+
+    public boolean isMultipart() {
+        return contentType != null && contentType.startsWith("multipart/form-data");
+    }
+}
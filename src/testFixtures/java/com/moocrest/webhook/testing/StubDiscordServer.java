@@ -0,0 +1,417 @@
+package com.moocrest.webhook.testing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moocrest.webhook.sender.WebhookClient;
+import com.moocrest.webhook.sender.WebhookClientBuilder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class StubDiscordServer implements AutoCloseable {
+
+    private static final String WEBHOOK_PATH = "/api/webhooks/";
+    private static final String MULTIPART = "multipart/form-data";
+    private static final int HISTORY_LIMIT = 1024;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService scheduler;
+    private final Queue<StubResponse> script = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedDeque<RecordedRequest> history = new ConcurrentLinkedDeque<>();
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final Set<InetSocketAddress> connections = ConcurrentHashMap.newKeySet();
+    private final Map<String, String> messages = new ConcurrentHashMap<>();
+    private final AtomicLong nextMessageId = new AtomicLong(1_200_000_000_000_000_000L);
+
+    private volatile Duration latency = Duration.ZERO;
+    private volatile int rateLimit;
+    private volatile Duration rateLimitWindow = Duration.ofSeconds(2);
+    private volatile double errorRate;
+    private volatile int errorStatus = 500;
+
+    private StubDiscordServer(HttpServer server, ExecutorService executor, ScheduledExecutorService scheduler) {
+        this.server = server;
+        this.executor = executor;
+        this.scheduler = scheduler;
+    }
+
+    public static StubDiscordServer start() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        StubDiscordServer stub = new StubDiscordServer(server, executor, scheduler);
+        server.createContext(WEBHOOK_PATH, stub::handle);
+        server.setExecutor(executor);
+        server.start();
+        return stub;
+    }
+
+    public URI baseUri() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/api/");
+    }
+
+    public String webhookUrl(long webhookId) {
+        return webhookUrl(webhookId, "stub-token");
+    }
+
+    public String webhookUrl(long webhookId, String token) {
+        return "https://discord.com/api/webhooks/" + webhookId + "/" + token;
+    }
+
+    public WebhookClientBuilder clientBuilder() {
+        return WebhookClient.builder().baseUri(baseUri());
+    }
+
+    public StubDiscordServer latency(Duration latency) {
+        if (latency == null || latency.isNegative()) {
+            throw new IllegalArgumentException("latency must not be negative");
+        }
+        this.latency = latency;
+        return this;
+    }
+
+    public StubDiscordServer rateLimit(int limit, Duration window) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        if (window == null || window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("window must be positive");
+        }
+        this.rateLimitWindow = window;
+        this.rateLimit = limit;
+        buckets.clear();
+        return this;
+    }
+
+    public StubDiscordServer errorRate(double rate, int status) {
+        if (rate < 0.0 || rate > 1.0) {
+            throw new IllegalArgumentException("rate must be between 0 and 1");
+        }
+        this.errorStatus = status;
+        this.errorRate = rate;
+        return this;
+    }
+
+    public StubDiscordServer enqueue(StubResponse... responses) {
+        script.addAll(Arrays.asList(responses));
+        return this;
+    }
+
+    public long requestCount() {
+        return requests.sum();
+    }
+
+    public long responseCount(int status) {
+        LongAdder count = statusCounts.get(status);
+        return count == null ? 0 : count.sum();
+    }
+
+    public int connectionCount() {
+        return connections.size();
+    }
+
+    public boolean hasMessage(String messageId) {
+        return messages.containsKey(messageId);
+    }
+
+    public List<RecordedRequest> requests() {
+        return new ArrayList<>(history);
+    }
+
+    public RecordedRequest lastRequest() {
+        return history.peekLast();
+    }
+
+    public void reset() {
+        script.clear();
+        history.clear();
+        buckets.clear();
+        statusCounts.clear();
+        requests.reset();
+        connections.clear();
+        messages.clear();
+        latency = Duration.ZERO;
+        rateLimit = 0;
+        errorRate = 0.0;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        byte[] body;
+        try (InputStream input = exchange.getRequestBody()) {
+            body = input.readAllBytes();
+        }
+        requests.increment();
+        connections.add(exchange.getRemoteAddress());
+
+        String[] route = exchange.getRequestURI().getPath().substring(WEBHOOK_PATH.length()).split("/", -1);
+        boolean messageRoute = route.length == 4 && route[2].equals("messages") && !route[3].isEmpty();
+        if (route.length != 2 && !messageRoute || route[0].isEmpty() || route[1].isEmpty()) {
+            respond(exchange, error(404, 10015, "Unknown Webhook"));
+            return;
+        }
+        String messageId = messageRoute ? route[3] : null;
+        String query = exchange.getRequestURI().getRawQuery();
+
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        Map<String, Long> files = new HashMap<>();
+        byte[] json = contentType != null && contentType.startsWith(MULTIPART)
+                ? parseMultipart(contentType, body, files)
+                : body;
+        String method = exchange.getRequestMethod();
+        record(new RecordedRequest(method, route[0], messageId, query, contentType,
+                json != null ? new String(json, StandardCharsets.UTF_8) : null, files));
+
+        StubResponse scripted = script.poll();
+        if (scripted != null) {
+            respond(exchange, scripted);
+        } else if (messageId != null) {
+            respond(exchange, evaluateMessage(method, route[0], messageId, json));
+        } else if ("GET".equals(method)) {
+            respond(exchange, new StubResponse(200, Duration.ZERO, Map.of(), "{\"type\":1,\"id\":\"" + route[0]
+                    + "\",\"name\":\"Stub\",\"token\":\"" + route[1] + "\"}"));
+        } else {
+            StubResponse response = evaluate(method, route[0] + "/" + route[1], json, files);
+            respond(exchange, response.status() == 204 && isWait(query) ? created(route[0], response) : response);
+        }
+    }
+
+    private StubResponse evaluateMessage(String method, String webhookId, String messageId, byte[] body) {
+        if (!webhookId.equals(messages.get(messageId))) {
+            return error(404, 10008, "Unknown Message");
+        }
+        if ("DELETE".equals(method)) {
+            messages.remove(messageId);
+            return StubResponse.noContent();
+        }
+        if (!"PATCH".equals(method)) {
+            return error(405, 0, "405: Method Not Allowed");
+        }
+        StubResponse invalid = body == null ? error(400, 50109, "The request body contains invalid JSON.")
+                : validateJson(body);
+        return invalid != null ? invalid : new StubResponse(200, Duration.ZERO, Map.of(),
+                messageJson(messageId, webhookId));
+    }
+
+    private StubResponse created(String webhookId, StubResponse response) {
+        String messageId = Long.toString(nextMessageId.getAndIncrement());
+        messages.put(messageId, webhookId);
+        return new StubResponse(200, response.delay(), response.headers(), messageJson(messageId, webhookId));
+    }
+
+    private static String messageJson(String messageId, String webhookId) {
+        return "{\"id\":\"" + messageId + "\",\"type\":0,\"channel_id\":\"1000\",\"webhook_id\":\""
+                + webhookId + "\"}";
+    }
+
+    private static boolean isWait(String query) {
+        return query != null && Arrays.asList(query.split("&")).contains("wait=true");
+    }
+
+    private StubResponse evaluate(String method, String route, byte[] body, Map<String, Long> files) {
+        if (!"POST".equals(method)) {
+            return error(405, 0, "405: Method Not Allowed");
+        }
+        if (body == null) {
+            return error(400, 50109, "The request body contains invalid JSON.");
+        }
+        if (files.size() > 10) {
+            return error(400, 50035, "Invalid Form Body");
+        }
+        StubResponse invalid = files.isEmpty() ? validate(body) : validateJson(body);
+        if (invalid != null) {
+            return invalid;
+        }
+        if (errorRate > 0.0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            return StubResponse.status(errorStatus);
+        }
+        int limit = rateLimit;
+        if (limit == 0) {
+            return StubResponse.noContent();
+        }
+        return buckets.computeIfAbsent(route, key -> new Bucket()).take(limit, rateLimitWindow.toNanos(),
+                Integer.toHexString(route.hashCode()));
+    }
+
+    private static StubResponse validate(byte[] body) {
+        StubResponse invalid = validateJson(body);
+        if (invalid != null) {
+            return invalid;
+        }
+        JsonNode json = readJson(body);
+        if (!hasText(json.get("content")) && !hasElements(json.get("embeds"))
+                && !hasElements(json.get("components")) && !hasElements(json.get("attachments"))) {
+            return error(400, 50006, "Cannot send an empty message");
+        }
+        return null;
+    }
+
+    private static StubResponse validateJson(byte[] body) {
+        JsonNode json = readJson(body);
+        return json != null && json.isObject() ? null : error(400, 50109, "The request body contains invalid JSON.");
+    }
+
+    private static JsonNode readJson(byte[] body) {
+        try {
+            return MAPPER.readTree(body);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static byte[] parseMultipart(String contentType, byte[] body, Map<String, Long> files) {
+        int boundaryAt = contentType.indexOf("boundary=");
+        if (boundaryAt < 0) {
+            return null;
+        }
+        String delimiter = "--" + contentType.substring(boundaryAt + "boundary=".length()).trim();
+        String raw = new String(body, StandardCharsets.ISO_8859_1);
+        byte[] json = null;
+        int partStart = raw.indexOf(delimiter);
+        while (partStart >= 0) {
+            int headersStart = partStart + delimiter.length();
+            if (raw.startsWith("--", headersStart)) {
+                break;
+            }
+            int headersEnd = raw.indexOf("\r\n\r\n", headersStart);
+            int next = raw.indexOf("\r\n" + delimiter, headersEnd);
+            if (headersEnd < 0 || next < 0) {
+                return null;
+            }
+            String headers = raw.substring(headersStart, headersEnd);
+            int contentStart = headersEnd + 4;
+            String filename = dispositionParameter(headers, "filename");
+            if (filename != null) {
+                files.put(filename, (long) (next - contentStart));
+            } else if ("payload_json".equals(dispositionParameter(headers, "name"))) {
+                json = raw.substring(contentStart, next).getBytes(StandardCharsets.ISO_8859_1);
+            }
+            partStart = next + 2;
+        }
+        return json;
+    }
+
+    private static String dispositionParameter(String headers, String name) {
+        String marker = "; " + name + "=\"";
+        int start = headers.indexOf(marker);
+        if (start < 0) {
+            return null;
+        }
+        start += marker.length();
+        int end = headers.indexOf('"', start);
+        return end < 0 ? null : headers.substring(start, end);
+    }
+
+    private void respond(HttpExchange exchange, StubResponse response) {
+        long delay = Math.max(response.delay().toNanos(), latency.toNanos());
+        if (delay > 0) {
+            scheduler.schedule(() -> write(exchange, response), delay, TimeUnit.NANOSECONDS);
+        } else {
+            write(exchange, response);
+        }
+    }
+
+    private void write(HttpExchange exchange, StubResponse response) {
+        statusCounts.computeIfAbsent(response.status(), status -> new LongAdder()).increment();
+        try (exchange) {
+            response.headers().forEach(exchange.getResponseHeaders()::set);
+            if (response.body() == null) {
+                exchange.sendResponseHeaders(response.status(), -1);
+                return;
+            }
+            byte[] bytes = response.body().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(response.status(), bytes.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(bytes);
+            }
+        } catch (IOException ignored) {
+        }
+    }
+
+    private void record(RecordedRequest request) {
+        history.addLast(request);
+        while (history.size() > HISTORY_LIMIT) {
+            history.pollFirst();
+        }
+    }
+
+    private static StubResponse error(int status, int code, String message) {
+        return new StubResponse(status, Duration.ZERO, Map.of(),
+                "{\"message\":\"" + message + "\",\"code\":" + code + "}");
+    }
+
+    private static boolean hasText(JsonNode node) {
+        return node != null && node.isTextual() && !node.asText().isEmpty();
+    }
+
+    private static boolean hasElements(JsonNode node) {
+        return node != null && node.isArray() && !node.isEmpty();
+    }
+
+    private static final class Bucket {
+        private int remaining;
+        private long resetAt = System.nanoTime();
+
+        synchronized StubResponse take(int limit, long window, String bucketId) {
+            long now = System.nanoTime();
+            if (now - resetAt >= 0) {
+                remaining = limit;
+                resetAt = now + window;
+            }
+            Duration resetAfter = Duration.ofNanos(Math.max(0, resetAt - now));
+            if (remaining == 0) {
+                StubResponse limited = StubResponse.rateLimited(resetAfter);
+                return new StubResponse(429, Duration.ZERO,
+                        headers(limited.headers(), limit, 0, resetAfter, bucketId), limited.body());
+            }
+            remaining--;
+            return new StubResponse(204, Duration.ZERO, headers(Map.of(), limit, remaining, resetAfter, bucketId),
+                    null);
+        }
+
+        private static Map<String, String> headers(Map<String, String> base, int limit, int remaining,
+                Duration resetAfter, String bucketId) {
+            Map<String, String> headers = new HashMap<>(base);
+            headers.put("X-RateLimit-Limit", Integer.toString(limit));
+            headers.put("X-RateLimit-Remaining", Integer.toString(remaining));
+            headers.put("X-RateLimit-Reset-After", StubResponse.formatSeconds(resetAfter));
+            headers.put("X-RateLimit-Bucket", bucketId);
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.moocrest.webhook.testing;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+public record StubResponse(
+        int status,
+        Duration delay,
+        Map<String, String> headers,
+        String body) {
+
+    public StubResponse {
+        if (status < 100 || status > 599) {
+            throw new IllegalArgumentException("status must be a valid HTTP status code");
+        }
+        if (delay == null || delay.isNegative()) {
+            throw new IllegalArgumentException("delay must not be negative");
+        }
+        headers = headers == null ? Map.of() : Map.copyOf(headers);
+    }
+
+    public static StubResponse noContent() {
+        return status(204);
+    }
+
+    public static StubResponse status(int status) {
+        return new StubResponse(status, Duration.ZERO, Map.of(), null);
+    }
+
+    public static StubResponse serverError() {
+        return status(500);
+    }
+
+    public static StubResponse rateLimited(Duration retryAfter) {
+        return rateLimited(retryAfter, false);
+    }
+
+    public static StubResponse rateLimited(Duration retryAfter, boolean global) {
+        String seconds = formatSeconds(retryAfter);
+        return new StubResponse(429, Duration.ZERO,
+                Map.of("Retry-After", seconds,
+                        "X-RateLimit-Scope", global ? "global" : "user",
+                        "X-RateLimit-Global", Boolean.toString(global)),
+                "{\"message\":\"You are being rate limited.\",\"retry_after\":" + seconds
+                        + ",\"global\":" + global + "}");
+    }
+
+    public StubResponse withDelay(Duration delay) {
+        return new StubResponse(status, delay, headers, body);
+    }
+
+    static String formatSeconds(Duration duration) {
+        return String.format(Locale.ROOT, "%.3f", duration.toNanos() / 1_000_000_000.0);
+    }
+}